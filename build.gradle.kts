@@ -32,6 +32,7 @@ dependencies {
     implementation("com.fasterxml.jackson.core:jackson-databind:2.17.1")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310:2.17.1")
     implementation("com.fasterxml.jackson.module:jackson-module-parameter-names:2.17.1")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile:2.17.1")
     implementation("org.slf4j:slf4j-api:2.0.13")
 
     testImplementation(platform("org.junit:junit-bom:5.10.2"))
@@ -53,6 +54,32 @@ tasks.register<JavaExec>("generateSyntheticTextReplacementFixture") {
     mainClass.set("com.pdfdancer.client.rest.fixtures.SyntheticTextReplacementFixtureGenerator")
 }
 
+// JMH benchmarks for client-side hot paths. Lives in its own source set so nothing leaks into the published jar.
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks with the GC profiler; filter with -Pjmh.include=<regex>"
+    dependsOn(jmh.classesTaskName)
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val results = layout.buildDirectory.file("reports/jmh/results.json")
+    args("-prof", "gc", "-rf", "json", "-rff", results.get().asFile.path)
+    (findProperty("jmh.include") as String?)?.let { args(it) }
+    doFirst { results.get().asFile.parentFile.mkdirs() }
+}
+
 tasks.withType<JavaCompile>().configureEach {
     options.encoding = "UTF-8"
     options.release.set(17)
@@ -0,0 +1,94 @@
+package com.pdfdancer.client.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds benchmark payloads from the recorded element samples in {@code fixtures/snapshot-elements.json}.
+ * Samples are cycled and re-numbered so large documents keep the mix of element types, optional fields and
+ * missing {@code type} properties seen in real snapshot responses.
+ */
+final class BenchmarkFixtures {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ArrayNode ELEMENTS = load("/fixtures/snapshot-elements.json");
+
+    private BenchmarkFixtures() {
+    }
+
+    static byte[] documentSnapshotJson(int pageCount, int elementsPerPage) {
+        ObjectNode document = MAPPER.createObjectNode();
+        document.put("pageCount", pageCount);
+        ArrayNode fonts = document.putArray("fonts");
+        fonts.addObject().put("documentFontName", "Helvetica").put("systemFontName", "Helvetica");
+        fonts.addObject().put("documentFontName", "ABCDEF+Roboto-Regular").put("systemFontName", "Roboto-Regular");
+        ArrayNode pages = document.putArray("pages");
+        for (int page = 1; page <= pageCount; page++) {
+            pages.add(page(page, elementsPerPage));
+        }
+        return write(document);
+    }
+
+    static byte[] pageSnapshotJson(int pageNumber, int elementsPerPage) {
+        return write(page(pageNumber, elementsPerPage));
+    }
+
+    private static ObjectNode page(int pageNumber, int elementsPerPage) {
+        ObjectNode page = MAPPER.createObjectNode();
+        ObjectNode pageRef = page.putObject("pageRef");
+        pageRef.put("internalId", "PAGE_" + pageNumber)
+                .put("type", "PAGE")
+                .put("objectRefType", "PAGE");
+        pageRef.putObject("position").put("pageNumber", pageNumber);
+        pageRef.putObject("pageSize").put("name", "A4").put("width", 595.0).put("height", 842.0);
+        pageRef.put("orientation", "PORTRAIT");
+
+        ArrayNode elements = page.putArray("elements");
+        for (int i = 0; i < elementsPerPage; i++) {
+            ObjectNode element = ELEMENTS.get(i % ELEMENTS.size()).deepCopy();
+            element.put("internalId", element.get("internalId").asText() + "_" + pageNumber + "_" + i);
+            ObjectNode position = (ObjectNode) element.get("position");
+            position.put("pageNumber", pageNumber);
+            ObjectNode rect = (ObjectNode) position.get("boundingRect");
+            rect.put("y", rect.get("y").asDouble() - (i / ELEMENTS.size()) * 0.5);
+            elements.add(element);
+        }
+        page.putArray("fonts").addObject().put("documentFontName", "Helvetica").put("systemFontName", "Helvetica");
+        return page;
+    }
+
+    static String largeText(int length) {
+        StringBuilder text = new StringBuilder(length);
+        String sample = ELEMENTS.get(0).get("text").asText();
+        while (text.length() < length) {
+            text.append(sample).append(' ');
+        }
+        return text.substring(0, length);
+    }
+
+    private static byte[] write(JsonNode node) {
+        try {
+            return MAPPER.writeValueAsBytes(node);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ArrayNode load(String resource) {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing benchmark fixture " + resource);
+            }
+            return (ArrayNode) MAPPER.readTree(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
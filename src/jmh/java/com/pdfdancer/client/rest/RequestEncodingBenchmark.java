@@ -0,0 +1,103 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.client.http.MediaType;
+import com.pdfdancer.client.http.MultipartBody;
+import com.pdfdancer.common.model.Image;
+import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.model.ObjectType;
+import com.pdfdancer.common.model.Position;
+import com.pdfdancer.common.model.Size;
+import com.pdfdancer.common.request.ImageTransformRequest;
+import com.pdfdancer.common.request.TextInsertRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request encoding: JSON bodies for text insertion and image replacement, and multipart bodies as
+ * uploaded by {@code createSession}/{@code registerFont}. Multipart publishers are drained completely so
+ * the copy into request buffers is part of the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestEncodingBenchmark {
+
+    @Param({"1048576"})
+    public int uploadBytes;
+
+    private PdfDancerHttpClient client;
+    private TextInsertRequest textInsert;
+    private ImageTransformRequest imageReplace;
+    private MultipartBody upload;
+
+    @Setup
+    public void setUp() {
+        client = PdfDancerHttpClient.create(HttpClient.newHttpClient(), URI.create("http://localhost"));
+        textInsert = TextInsertRequest.after("Amounts are stated", BenchmarkFixtures.largeText(2_000))
+                .pages(1, 2, 3)
+                .build();
+
+        byte[] imageData = new byte[64 * 1024];
+        new Random(1).nextBytes(imageData);
+        ObjectRef image = ObjectRef.create("IMAGE_000003", Position.atPage(1), ObjectType.IMAGE, ObjectType.IMAGE);
+        imageReplace = ImageTransformRequest.builder(image)
+                .replace(new Image(null, "JPEG", new Size(600, 400), Position.atPage(1), imageData))
+                .build();
+
+        byte[] pdf = new byte[uploadBytes];
+        new Random(2).nextBytes(pdf);
+        upload = MultipartBody.builder()
+                .addPart("pdf", "document.pdf", MediaType.APPLICATION_PDF_TYPE, pdf)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] writeTextInsertRequest() {
+        return client.writeJson(textInsert);
+    }
+
+    @Benchmark
+    public byte[] writeImageTransformRequest() {
+        return client.writeJson(imageReplace);
+    }
+
+    @Benchmark
+    public long multipartPublisher() {
+        return drain(client.multipartPublisher(upload));
+    }
+
+    private static long drain(HttpRequest.BodyPublisher publisher) {
+        long[] total = new long[1];
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                total[0] += item.remaining();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        return total[0];
+    }
+}
@@ -0,0 +1,67 @@
+package com.pdfdancer.client.rest;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pdfdancer.client.rest.selection.SelectionService;
+import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.model.ObjectType;
+import com.pdfdancer.common.response.DocumentSnapshot;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side selection over a decoded document of about 100k elements, as used by the
+ * {@code select*} and {@code select*At} methods: type selection through the snapshot's type index, and the
+ * linear point test compared with the spatial index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SelectionBenchmark {
+
+    private final SelectionService selection = new SelectionService();
+    private DocumentSnapshot snapshot;
+    private List<ObjectRef> elements;
+    private SpatialIndex<ObjectRef> index;
+
+    @Setup
+    public void setUp() throws IOException {
+        PdfDancerHttpClient client = PdfDancerHttpClient.create(HttpClient.newHttpClient(), URI.create("http://localhost"));
+        JavaType type = new ObjectMapper().getTypeFactory().constructType(DocumentSnapshot.class);
+        snapshot = (DocumentSnapshot) client.readValueFixingTypes(BenchmarkFixtures.documentSnapshotJson(1_000, 100), type);
+        elements = selection.collectAllElements(snapshot);
+        index = SpatialIndex.build(elements);
+    }
+
+    @Benchmark
+    public List<ObjectRef> collectImages() {
+        return selection.collectObjectsByType(snapshot, Set.of(ObjectType.IMAGE));
+    }
+
+    @Benchmark
+    public List<ObjectRef> collectImagesAndPaths() {
+        return selection.collectObjectsByType(snapshot, Set.of(ObjectType.IMAGE, ObjectType.PATH));
+    }
+
+    @Benchmark
+    public void containsPoint(Blackhole blackhole) {
+        for (ObjectRef element : elements) {
+            blackhole.consume(selection.containsPoint(element, 160.0, 248.0, PDFDancer.DEFAULT_EPSILON));
+        }
+    }
+
+    @Benchmark
+    public List<ObjectRef> indexedPointQuery() {
+        return index.containing(160.0, 248.0, PDFDancer.DEFAULT_EPSILON);
+    }
+}
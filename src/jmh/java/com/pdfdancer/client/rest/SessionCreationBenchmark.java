@@ -0,0 +1,89 @@
+package com.pdfdancer.client.rest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating {@value #SESSIONS} sessions against a loopback server, each on a fresh transport (new
+ * {@link java.net.http.HttpClient}, connection and selector thread, as before transports were shared) versus
+ * all on one {@link PdfDancerTransport}. The {@code connections} counter reports how many TCP connections the
+ * server accepted per run; against the hosted API every one of them also costs a TLS handshake.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SessionCreationBenchmark {
+
+    private static final int SESSIONS = 1_000;
+    private static final byte[] PDF = "%PDF-1.7".getBytes(StandardCharsets.US_ASCII);
+
+    private final Set<Integer> remotePorts = ConcurrentHashMap.newKeySet();
+    private HttpServer server;
+    private URI baseUri;
+    private PdfDancerTransport shared;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Connections {
+        public long connections;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] sessionId = "session-1".getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/v2/session/create", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            remotePorts.add(exchange.getRemoteAddress().getPort());
+            exchange.sendResponseHeaders(200, sessionId.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(sessionId);
+            }
+        });
+        server.start();
+        baseUri = URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+        shared = PdfDancerTransport.builder().build();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetConnections() {
+        remotePorts.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        shared.close();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public void transportPerSession(Connections counters) {
+        for (int i = 0; i < SESSIONS; i++) {
+            try (PdfDancerTransport transport = PdfDancerTransport.builder().build()) {
+                PDFDancer.createSession("token", PDF, transport.client(baseUri, RetryConfig.noRetry()));
+            }
+        }
+        counters.connections += remotePorts.size();
+    }
+
+    @Benchmark
+    public void sharedTransport(Connections counters) {
+        for (int i = 0; i < SESSIONS; i++) {
+            PDFDancer.createSession("token", PDF, shared.client(baseUri, RetryConfig.noRetry()));
+        }
+        counters.connections += remotePorts.size();
+    }
+}
@@ -0,0 +1,70 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.common.model.FormFieldRef;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache hits in {@link SnapshotCache}: key normalization, map lookup and usage bookkeeping. The cache is
+ * warmed once from a loopback server serving fixture payloads, so no request is made while measuring.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SnapshotCacheBenchmark {
+
+    private static final int PAGE_COUNT = 50;
+
+    private HttpServer server;
+    private SnapshotCache cache;
+    private int page;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] document = BenchmarkFixtures.documentSnapshotJson(PAGE_COUNT, 60);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/v2/pdf/document/snapshot", exchange -> {
+            exchange.sendResponseHeaders(200, document.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(document);
+            }
+        });
+        server.start();
+        URI baseUri = URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+        cache = new SnapshotCache("token", "session", PdfDancerHttpClient.create(HttpClient.newHttpClient(), baseUri));
+        cache.getDocumentSnapshotCached(null);
+        cache.getTypedDocumentSnapshot(FormFieldRef.class, "CHECKBOX");
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public Object documentHit() {
+        return cache.getDocumentSnapshotCached(null);
+    }
+
+    @Benchmark
+    public Object pageHit() {
+        page = page % PAGE_COUNT + 1;
+        return cache.getPageSnapshotCached(page, null);
+    }
+
+    @Benchmark
+    public Object typedDocumentHit() {
+        return cache.getTypedDocumentSnapshot(FormFieldRef.class, "checkbox");
+    }
+}
@@ -0,0 +1,58 @@
+package com.pdfdancer.client.rest;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.pdfdancer.common.response.DocumentSnapshot;
+import com.pdfdancer.common.response.PageSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response decoding as done for every snapshot call: {@code readValueFixingTypes}, which reads a tree,
+ * patches {@code type}/{@code objectRefType} via {@code ensureObjectRefType} and binds the tree.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SnapshotDecodingBenchmark {
+
+    @Param({"20", "500"})
+    public int pageCount;
+
+    @Param({"60"})
+    public int elementsPerPage;
+
+    private PdfDancerHttpClient client;
+    private byte[] documentJson;
+    private byte[] pageJson;
+    private JavaType documentType;
+    private JavaType pageType;
+
+    @Setup
+    public void setUp() {
+        client = PdfDancerHttpClient.create(HttpClient.newHttpClient(), URI.create("http://localhost"));
+        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        documentType = mapper.getTypeFactory().constructType(DocumentSnapshot.class);
+        pageType = mapper.getTypeFactory().constructType(PageSnapshot.class);
+        documentJson = BenchmarkFixtures.documentSnapshotJson(pageCount, elementsPerPage);
+        pageJson = BenchmarkFixtures.pageSnapshotJson(1, elementsPerPage);
+    }
+
+    @Benchmark
+    public Object decodeDocumentSnapshot() throws IOException {
+        return client.readValueFixingTypes(documentJson, documentType);
+    }
+
+    @Benchmark
+    public Object decodePageSnapshot() throws IOException {
+        return client.readValueFixingTypes(pageJson, pageType);
+    }
+}
@@ -1,5 +1,6 @@
 package com.pdfdancer.client.http;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -32,4 +33,17 @@ public final class Argument<T> {
     public Class<?>[] typeArguments() {
         return typeArguments.clone();
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Argument)) return false;
+        Argument<?> other = (Argument<?>) o;
+        return rawType.equals(other.rawType) && Arrays.equals(typeArguments, other.typeArguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * rawType.hashCode() + Arrays.hashCode(typeArguments);
+    }
 }
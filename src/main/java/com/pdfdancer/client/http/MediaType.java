@@ -11,6 +11,11 @@ public final class MediaType {
     public static final MediaType MULTIPART_FORM_DATA_TYPE = new MediaType("multipart/form-data");
     public static final MediaType APPLICATION_OCTET_STREAM_TYPE = new MediaType("application/octet-stream");
     public static final MediaType TEXT_PLAIN_TYPE = new MediaType("text/plain");
+    /**
+     * Jackson's binary JSON format. Offered in {@code Accept} for large responses; servers without Smile support
+     * answer with JSON instead.
+     */
+    public static final MediaType APPLICATION_SMILE_TYPE = new MediaType("application/x-jackson-smile");
 
     private final String value;
 
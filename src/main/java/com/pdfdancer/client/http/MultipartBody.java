@@ -1,7 +1,14 @@
 package com.pdfdancer.client.http;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Simple multipart body representation used for file uploads.
@@ -28,26 +35,55 @@ public final class MultipartBody {
         return boundary;
     }
 
+    /**
+     * A single multipart section. Content is held either in memory, in a file that is read
+     * only while the request body is being sent, or behind a stream supplier.
+     */
     public static final class Part {
         private final String name;
         private final String fileName;
         private final MediaType contentType;
         private final byte[] content;
+        private final Path file;
+        private final Supplier<? extends InputStream> stream;
 
         public Part(String name, String fileName, MediaType contentType, byte[] content) {
+            this(name, fileName, contentType, Objects.requireNonNull(content, "content"), null, null);
+        }
+
+        private Part(String name, String fileName, MediaType contentType,
+                     byte[] content, Path file, Supplier<? extends InputStream> stream) {
             Objects.requireNonNull(name, "name");
             Objects.requireNonNull(contentType, "contentType");
-            Objects.requireNonNull(content, "content");
             this.name = name;
             this.fileName = fileName;
             this.contentType = contentType;
             this.content = content;
+            this.file = file;
+            this.stream = stream;
         }
 
         public static Part forText(String name, String value) {
             return new Part(name, null, MediaType.TEXT_PLAIN_TYPE, value.getBytes(StandardCharsets.UTF_8));
         }
 
+        /**
+         * Creates a part whose content is streamed from {@code file} when the request is sent.
+         */
+        public static Part forFile(String name, String fileName, MediaType contentType, Path file) {
+            return new Part(name, fileName, contentType, null, Objects.requireNonNull(file, "file"), null);
+        }
+
+        /**
+         * Creates a part whose content is read from a stream when the request is sent.
+         * The supplier is invoked once per send attempt, so it must return a fresh stream each time
+         * for retries to work.
+         */
+        public static Part forStream(String name, String fileName, MediaType contentType,
+                                     Supplier<? extends InputStream> stream) {
+            return new Part(name, fileName, contentType, null, null, Objects.requireNonNull(stream, "stream"));
+        }
+
         public String name() {
             return name;
         }
@@ -60,8 +96,46 @@ public final class MultipartBody {
             return contentType;
         }
 
+        /**
+         * Returns the part content as a byte array. Streamed parts are read fully on each call,
+         * so prefer {@link #file()} or {@link #openStream()} for those.
+         */
         public byte[] content() {
-            return content;
+            if (content != null) {
+                return content;
+            }
+            try (InputStream in = openStream()) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Returns the backing file for parts created with {@link #forFile}, or {@code null}.
+         */
+        public Path file() {
+            return file;
+        }
+
+        /**
+         * Returns whether the content is read at send time rather than held in memory.
+         */
+        public boolean isStreamed() {
+            return content == null;
+        }
+
+        /**
+         * Opens a new stream over the part content.
+         */
+        public InputStream openStream() throws IOException {
+            if (file != null) {
+                return Files.newInputStream(file);
+            }
+            if (stream != null) {
+                return stream.get();
+            }
+            return new ByteArrayInputStream(content);
         }
 
         @Override
@@ -72,23 +146,28 @@ public final class MultipartBody {
             return Objects.equals(this.name, that.name)
                     && Objects.equals(this.fileName, that.fileName)
                     && Objects.equals(this.contentType, that.contentType)
-                    && Arrays.equals(this.content, that.content);
+                    && Arrays.equals(this.content, that.content)
+                    && Objects.equals(this.file, that.file)
+                    && Objects.equals(this.stream, that.stream);
         }
 
         @Override
         public int hashCode() {
-            int result = Objects.hash(name, fileName, contentType);
+            int result = Objects.hash(name, fileName, contentType, file, stream);
             result = 31 * result + Arrays.hashCode(content);
             return result;
         }
 
         @Override
         public String toString() {
+            String source = file != null ? "file=" + file
+                    : stream != null ? "stream=" + stream
+                    : "content=" + Arrays.toString(content);
             return "Part[" +
                     "name=" + name + ", " +
                     "fileName=" + fileName + ", " +
                     "contentType=" + contentType + ", " +
-                    "content=" + Arrays.toString(content) + ']';
+                    source + ']';
         }
     }
 
@@ -100,6 +179,22 @@ public final class MultipartBody {
             return this;
         }
 
+        public Builder addPart(String name, String fileName, MediaType contentType, Path file) {
+            parts.add(Part.forFile(name, fileName, contentType, file));
+            return this;
+        }
+
+        public Builder addPart(String name, String fileName, MediaType contentType,
+                               Supplier<? extends InputStream> stream) {
+            parts.add(Part.forStream(name, fileName, contentType, stream));
+            return this;
+        }
+
+        public Builder addPart(Part part) {
+            parts.add(Objects.requireNonNull(part, "part"));
+            return this;
+        }
+
         public Builder addPart(String name, String value) {
             parts.add(Part.forText(name, value));
             return this;
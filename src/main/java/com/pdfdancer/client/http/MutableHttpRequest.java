@@ -1,8 +1,10 @@
 package com.pdfdancer.client.http;
 
 import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.StringJoiner;
 
 /**
  * Simplified mutable HTTP request used by the PDFDancer client.
@@ -29,6 +31,19 @@ public final class MutableHttpRequest<T> {
         return this;
     }
 
+    /**
+     * Sets the {@code Accept} header to the given media types, most preferred first.
+     * Later types are given decreasing quality values.
+     */
+    public MutableHttpRequest<T> accept(MediaType... mediaTypes) {
+        StringJoiner accept = new StringJoiner(", ");
+        for (int i = 0; i < mediaTypes.length; i++) {
+            double quality = Math.max(0.1, 1.0 - i / 10.0);
+            accept.add(i == 0 ? mediaTypes[i].value() : String.format(Locale.ROOT, "%s;q=%.1f", mediaTypes[i].value(), quality));
+        }
+        return header("Accept", accept.toString());
+    }
+
     public MutableHttpRequest<T> bearerAuth(String token) {
         if (token != null && !token.isBlank()) {
             header("Authorization", "Bearer " + token);
@@ -4,6 +4,8 @@ import com.pdfdancer.common.model.ObjectRef;
 import com.pdfdancer.common.model.ObjectType;
 import com.pdfdancer.common.model.Position;
 
+import java.util.concurrent.CompletableFuture;
+
 public abstract class BaseReference {
     protected final PDFDancer client;
     protected final ObjectRef objectRef;
@@ -25,10 +27,19 @@ public abstract class BaseReference {
         return this.client.delete(objectRef);
     }
 
+    public CompletableFuture<Boolean> deleteAsync() {
+        return this.client.deleteAsync(objectRef);
+    }
+
     public boolean moveTo(double x, double y) {
         return this.client.move(objectRef, new Position(x, y));
     }
 
+    public CompletableFuture<Boolean> moveToAsync(double x, double y) {
+        return this.client.moveAsync(objectRef, new Position(x, y))
+                .thenApply(Boolean.TRUE::equals);
+    }
+
     public boolean moveX(int xOffset) {
         Position newPosition = objectRef.getPosition().copy();
         newPosition.moveX(xOffset);
@@ -0,0 +1,161 @@
+package com.pdfdancer.client.rest;
+
+/**
+ * Configuration for HTTP compression between the client and the PDFDancer API.
+ * <p>
+ * Compression is off by default. When response decompression is enabled the client sends
+ * {@code Accept-Encoding: gzip} and inflates gzip-encoded responses as they are read, including
+ * streamed PDF downloads. When request compression is enabled, JSON request bodies at or above the
+ * threshold (typically text replacements and image transforms carrying base64 image data) are sent
+ * with {@code Content-Encoding: gzip}; smaller bodies are sent as-is to save the CPU cost.
+ * </p>
+ *
+ * <h3>Example Usage:</h3>
+ * <pre>{@code
+ * CompressionConfig compression = CompressionConfig.builder()
+ *     .decompressResponses(true)
+ *     .compressRequests(true)
+ *     .requestThresholdBytes(16 * 1024)
+ *     .build();
+ * PdfDancerHttpClient client = PdfDancerHttpClient.create(httpClient, baseUrl, null, retryConfig, compression);
+ * }</pre>
+ */
+public final class CompressionConfig {
+
+    /**
+     * Request bodies below this size are not worth compressing.
+     */
+    public static final int DEFAULT_REQUEST_THRESHOLD_BYTES = 8 * 1024;
+
+    private static final CompressionConfig DISABLED = builder().build();
+
+    private final boolean decompressResponses;
+    private final boolean compressRequests;
+    private final int requestThresholdBytes;
+
+    private CompressionConfig(Builder builder) {
+        this.decompressResponses = builder.decompressResponses;
+        this.compressRequests = builder.compressRequests;
+        this.requestThresholdBytes = builder.requestThresholdBytes;
+    }
+
+    /**
+     * Creates a configuration that neither requests nor sends compressed bodies.
+     *
+     * @return a disabled CompressionConfig
+     */
+    public static CompressionConfig disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Creates a configuration with gzip in both directions and the default request threshold.
+     *
+     * @return a gzip CompressionConfig
+     */
+    public static CompressionConfig gzip() {
+        return builder()
+                .decompressResponses(true)
+                .compressRequests(true)
+                .build();
+    }
+
+    /**
+     * Creates a new builder for constructing a CompressionConfig.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Determines if gzip-encoded responses are requested and decompressed.
+     *
+     * @return true if responses may be compressed
+     */
+    public boolean isDecompressResponses() {
+        return decompressResponses;
+    }
+
+    /**
+     * Determines if large JSON request bodies are gzip-compressed.
+     *
+     * @return true if request bodies may be compressed
+     */
+    public boolean isCompressRequests() {
+        return compressRequests;
+    }
+
+    /**
+     * Gets the minimum size of a JSON request body before it is compressed.
+     *
+     * @return the threshold in bytes
+     */
+    public int getRequestThresholdBytes() {
+        return requestThresholdBytes;
+    }
+
+    boolean shouldCompress(int bodyLength) {
+        return compressRequests && bodyLength >= requestThresholdBytes;
+    }
+
+    /**
+     * Builder for constructing CompressionConfig instances.
+     */
+    public static final class Builder {
+        private boolean decompressResponses;
+        private boolean compressRequests;
+        private int requestThresholdBytes = DEFAULT_REQUEST_THRESHOLD_BYTES;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets whether to send {@code Accept-Encoding: gzip} and decompress gzip-encoded responses.
+         *
+         * @param decompressResponses true to accept compressed responses
+         * @return this builder
+         */
+        public Builder decompressResponses(boolean decompressResponses) {
+            this.decompressResponses = decompressResponses;
+            return this;
+        }
+
+        /**
+         * Sets whether JSON request bodies at or above the threshold are gzip-compressed.
+         * The server must accept {@code Content-Encoding: gzip} request bodies.
+         *
+         * @param compressRequests true to compress large request bodies
+         * @return this builder
+         */
+        public Builder compressRequests(boolean compressRequests) {
+            this.compressRequests = compressRequests;
+            return this;
+        }
+
+        /**
+         * Sets the minimum size of a JSON request body before it is compressed.
+         *
+         * @param requestThresholdBytes the threshold in bytes
+         * @return this builder
+         * @throws IllegalArgumentException if requestThresholdBytes is negative
+         */
+        public Builder requestThresholdBytes(int requestThresholdBytes) {
+            if (requestThresholdBytes < 0) {
+                throw new IllegalArgumentException("requestThresholdBytes must not be negative");
+            }
+            this.requestThresholdBytes = requestThresholdBytes;
+            return this;
+        }
+
+        /**
+         * Builds the CompressionConfig instance.
+         *
+         * @return a new CompressionConfig
+         */
+        public CompressionConfig build() {
+            return new CompressionConfig(this);
+        }
+    }
+}
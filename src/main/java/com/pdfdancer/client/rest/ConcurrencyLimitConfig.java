@@ -0,0 +1,265 @@
+package com.pdfdancer.client.rest;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configuration for the adaptive limit on concurrent requests of a client or transport.
+ * <p>
+ * The limit is off by default. When enabled, every HTTP attempt needs one of {@code limit} slots; callers
+ * beyond the limit wait in a FIFO queue. The limit grows additively while requests succeed and the slots are
+ * in use, and shrinks multiplicatively when the server signals overload ({@code 429}, {@code 503} or a request
+ * timeout) or when the short-term average latency exceeds {@link #getLatencyTolerance()} times the long-term
+ * average, so that a steady mix of fast and slow endpoints does not read as congestion.
+ * It shrinks at most once per round trip, so a burst of {@code 429}s from requests that were already in flight
+ * counts as one signal. Retry back-off delays do not hold a slot.
+ * </p>
+ * <p>
+ * Callers are rejected with a {@link ConcurrencyLimitException} when the queue is full or when they waited
+ * longer than {@link #getMaxQueueWait()}.
+ * </p>
+ *
+ * <h3>Example Usage:</h3>
+ * <pre>{@code
+ * PdfDancerTransport.setShared(PdfDancerTransport.builder()
+ *     .concurrencyLimit(ConcurrencyLimitConfig.builder()
+ *         .initialLimit(16)
+ *         .maxLimit(64)
+ *         .maxQueueWait(Duration.ofSeconds(30))
+ *         .build())
+ *     .build());
+ * }</pre>
+ */
+public final class ConcurrencyLimitConfig {
+
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+    public static final int DEFAULT_MAX_LIMIT = 200;
+    public static final double DEFAULT_BACKOFF_RATIO = 0.5;
+    public static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+    public static final Duration DEFAULT_MAX_QUEUE_WAIT = Duration.ofSeconds(60);
+
+    private static final ConcurrencyLimitConfig UNLIMITED = new ConcurrencyLimitConfig(builder(), false);
+
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final int maxQueueSize;
+    private final Duration maxQueueWait;
+
+    private ConcurrencyLimitConfig(Builder builder, boolean enabled) {
+        this.enabled = enabled;
+        this.initialLimit = builder.initialLimit;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyTolerance = builder.latencyTolerance;
+        this.maxQueueSize = builder.maxQueueSize;
+        this.maxQueueWait = builder.maxQueueWait;
+    }
+
+    /**
+     * Creates a configuration that does not limit concurrent requests.
+     *
+     * @return a disabled ConcurrencyLimitConfig
+     */
+    public static ConcurrencyLimitConfig unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Creates an adaptive configuration with default settings.
+     *
+     * @return an enabled ConcurrencyLimitConfig
+     */
+    public static ConcurrencyLimitConfig adaptive() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a new builder for constructing an enabled ConcurrencyLimitConfig.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Gets the factor the limit is multiplied with on an overload signal.
+     *
+     * @return the backoff ratio, between 0 and 1
+     */
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * Gets how many times the long-term average latency the short-term average may reach before the limit
+     * shrinks.
+     *
+     * @return the latency tolerance, {@link Double#POSITIVE_INFINITY} if latency is ignored
+     */
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public Duration getMaxQueueWait() {
+        return maxQueueWait;
+    }
+
+    /**
+     * Builder for constructing ConcurrencyLimitConfig instances.
+     */
+    public static final class Builder {
+        private int initialLimit = DEFAULT_INITIAL_LIMIT;
+        private int minLimit = 1;
+        private int maxLimit = DEFAULT_MAX_LIMIT;
+        private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+        private double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+        private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+        private Duration maxQueueWait = DEFAULT_MAX_QUEUE_WAIT;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of concurrent requests allowed before any feedback was received.
+         *
+         * @param initialLimit the initial limit, at least 1
+         * @return this builder
+         */
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = requireAtLeastOne(initialLimit, "initialLimit");
+            return this;
+        }
+
+        /**
+         * Sets the lower bound the limit never shrinks below.
+         *
+         * @param minLimit the minimum limit, at least 1
+         * @return this builder
+         */
+        public Builder minLimit(int minLimit) {
+            this.minLimit = requireAtLeastOne(minLimit, "minLimit");
+            return this;
+        }
+
+        /**
+         * Sets the upper bound the limit never grows beyond.
+         *
+         * @param maxLimit the maximum limit, at least 1
+         * @return this builder
+         */
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = requireAtLeastOne(maxLimit, "maxLimit");
+            return this;
+        }
+
+        /**
+         * Sets the factor the limit is multiplied with on an overload signal.
+         *
+         * @param backoffRatio the ratio, greater than 0 and less than 1
+         * @return this builder
+         * @throws IllegalArgumentException if backoffRatio is out of range
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            if (!(backoffRatio > 0.0 && backoffRatio < 1.0)) {
+                throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+            }
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Sets how many times the long-term average latency the short-term average may reach before the limit
+         * shrinks. Pass {@link Double#POSITIVE_INFINITY} to react to overload responses only.
+         *
+         * @param latencyTolerance the tolerance, greater than 1
+         * @return this builder
+         * @throws IllegalArgumentException if latencyTolerance is not greater than 1
+         */
+        public Builder latencyTolerance(double latencyTolerance) {
+            if (!(latencyTolerance > 1.0)) {
+                throw new IllegalArgumentException("latencyTolerance must be greater than 1");
+            }
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        /**
+         * Sets how many callers may wait for a slot before further callers are rejected.
+         *
+         * @param maxQueueSize the queue capacity, 0 to reject instead of queueing
+         * @return this builder
+         */
+        public Builder maxQueueSize(int maxQueueSize) {
+            if (maxQueueSize < 0) {
+                throw new IllegalArgumentException("maxQueueSize must not be negative");
+            }
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        /**
+         * Sets how long a caller may wait for a slot before it is rejected.
+         *
+         * @param maxQueueWait the maximum wait
+         * @return this builder
+         */
+        public Builder maxQueueWait(Duration maxQueueWait) {
+            Objects.requireNonNull(maxQueueWait, "maxQueueWait");
+            if (maxQueueWait.isNegative()) {
+                throw new IllegalArgumentException("maxQueueWait must not be negative");
+            }
+            this.maxQueueWait = maxQueueWait;
+            return this;
+        }
+
+        private static int requireAtLeastOne(int value, String name) {
+            if (value < 1) {
+                throw new IllegalArgumentException(name + " must be >= 1");
+            }
+            return value;
+        }
+
+        /**
+         * Builds the ConcurrencyLimitConfig instance.
+         *
+         * @return a new, enabled ConcurrencyLimitConfig
+         * @throws IllegalArgumentException if the limits are inconsistent
+         */
+        public ConcurrencyLimitConfig build() {
+            if (minLimit > maxLimit) {
+                throw new IllegalArgumentException("minLimit must not exceed maxLimit");
+            }
+            if (initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException("initialLimit must be between minLimit and maxLimit");
+            }
+            return new ConcurrencyLimitConfig(this, true);
+        }
+    }
+}
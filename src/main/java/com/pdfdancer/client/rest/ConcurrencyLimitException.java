@@ -0,0 +1,12 @@
+package com.pdfdancer.client.rest;
+
+/**
+ * Thrown when a request is not sent because the client-side concurrency limit is exhausted and the caller
+ * could not be queued, or waited longer than {@link ConcurrencyLimitConfig#getMaxQueueWait()}.
+ */
+public class ConcurrencyLimitException extends PdfDancerClientException {
+
+    public ConcurrencyLimitException(String message) {
+        super(message);
+    }
+}
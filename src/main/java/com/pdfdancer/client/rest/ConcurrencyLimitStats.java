@@ -0,0 +1,65 @@
+package com.pdfdancer.client.rest;
+
+/**
+ * Point-in-time state of an adaptive concurrency limit, as returned by
+ * {@link PdfDancerHttpClient#getConcurrencyLimitStats()} and {@link PdfDancerTransport#getConcurrencyLimitStats()}.
+ */
+public final class ConcurrencyLimitStats {
+
+    private final int limit;
+    private final int inFlight;
+    private final int queueDepth;
+    private final long rejectedCount;
+    private final long overloadCount;
+
+    ConcurrencyLimitStats(int limit, int inFlight, int queueDepth, long rejectedCount, long overloadCount) {
+        this.limit = limit;
+        this.inFlight = inFlight;
+        this.queueDepth = queueDepth;
+        this.rejectedCount = rejectedCount;
+        this.overloadCount = overloadCount;
+    }
+
+    /**
+     * @return current number of concurrent requests allowed, {@link Integer#MAX_VALUE} when unlimited
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return number of callers waiting for a slot
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * @return number of callers turned away with a {@link ConcurrencyLimitException}
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @return number of responses that signalled overload: {@code 429}, {@code 503} and request timeouts
+     */
+    public long getOverloadCount() {
+        return overloadCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimitStats{" +
+                "limit=" + limit +
+                ", inFlight=" + inFlight +
+                ", queueDepth=" + queueDepth +
+                ", rejectedCount=" + rejectedCount +
+                ", overloadCount=" + overloadCount +
+                '}';
+    }
+}
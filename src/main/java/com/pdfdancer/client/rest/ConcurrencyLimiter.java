@@ -0,0 +1,295 @@
+package com.pdfdancer.client.rest;
+
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Adaptive limit on concurrent HTTP attempts, configured by {@link ConcurrencyLimitConfig}.
+ * <p>
+ * Additive increase, multiplicative decrease: each successful attempt that found at least half of the slots in
+ * use raises the limit by {@code 1 / limit}, so roughly by one per round of requests. Overload responses, and a
+ * short-term average latency beyond the configured tolerance of the long-term average, multiply it by the
+ * backoff ratio at most once per short-term round-trip time. Comparing two averages rather than against the
+ * lowest latency ever seen keeps a mix of fast and slow endpoints from reading as congestion, and lets the
+ * baseline follow lasting changes in the traffic. Callers beyond the limit wait in FIFO order; slots freed by
+ * completed attempts are handed to the longest waiting caller.
+ * </p>
+ */
+final class ConcurrencyLimiter {
+
+    static final ConcurrencyLimiter UNLIMITED = new ConcurrencyLimiter(ConcurrencyLimitConfig.unlimited());
+
+    private static final double SHORT_RTT_SMOOTHING = 0.1;
+    private static final double LONG_RTT_SMOOTHING = 0.01;
+    /**
+     * Latency increases below this are jitter, not queueing, however large relative to a fast baseline.
+     */
+    private static final long RTT_NOISE_FLOOR_NANOS = 1_000_000L;
+
+    private final ConcurrencyLimitConfig config;
+    private final Permit unlimitedPermit = new Permit(0);
+    private final Object lock = new Object();
+    private final ArrayDeque<CompletableFuture<Permit>> queue = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long rttSamples;
+    private double smoothedRttNanos;
+    private double longRttNanos;
+    private long lastDecreaseNanos;
+    private boolean decreased;
+    private long rejectedCount;
+    private long overloadCount;
+
+    private ConcurrencyLimiter(ConcurrencyLimitConfig config) {
+        this.config = config;
+        this.limit = config.getInitialLimit();
+    }
+
+    static ConcurrencyLimiter create(ConcurrencyLimitConfig config) {
+        return config == null || !config.isEnabled() ? UNLIMITED : new ConcurrencyLimiter(config);
+    }
+
+    /**
+     * Waits for a slot on the calling thread.
+     *
+     * @throws ConcurrencyLimitException if the queue is full or the wait exceeded the configured maximum
+     */
+    Permit acquire() {
+        if (!config.isEnabled()) {
+            return unlimitedPermit;
+        }
+        CompletableFuture<Permit> pending;
+        synchronized (lock) {
+            Permit permit = tryGrant();
+            if (permit != null) {
+                return permit;
+            }
+            pending = enqueue();
+        }
+        try {
+            return pending.get(config.getMaxQueueWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            Permit granted = abandon(pending);
+            if (granted != null) {
+                return granted;
+            }
+            throw queueTimeout();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Permit granted = abandon(pending);
+            if (granted != null) {
+                granted.release();
+            }
+            throw new PdfDancerClientException("Interrupted while waiting for a request slot", e);
+        } catch (ExecutionException e) {
+            throw new PdfDancerClientException("Failed to acquire a request slot", e.getCause());
+        }
+    }
+
+    /**
+     * Obtains a slot without blocking; the future completes once one is free, or exceptionally with a
+     * {@link ConcurrencyLimitException}.
+     */
+    CompletableFuture<Permit> acquireAsync() {
+        if (!config.isEnabled()) {
+            return CompletableFuture.completedFuture(unlimitedPermit);
+        }
+        CompletableFuture<Permit> pending;
+        synchronized (lock) {
+            Permit permit;
+            try {
+                permit = tryGrant();
+                if (permit != null) {
+                    return CompletableFuture.completedFuture(permit);
+                }
+                pending = enqueue();
+            } catch (ConcurrencyLimitException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        CompletableFuture.delayedExecutor(config.getMaxQueueWait().toNanos(), TimeUnit.NANOSECONDS)
+                .execute(() -> {
+                    if (abandon(pending) == null) {
+                        pending.completeExceptionally(queueTimeout());
+                    }
+                });
+        return pending;
+    }
+
+    ConcurrencyLimitStats stats() {
+        if (!config.isEnabled()) {
+            return new ConcurrencyLimitStats(Integer.MAX_VALUE, 0, 0, 0, 0);
+        }
+        synchronized (lock) {
+            return new ConcurrencyLimitStats(currentLimit(), inFlight, queue.size(), rejectedCount, overloadCount);
+        }
+    }
+
+    /**
+     * Must hold {@link #lock}.
+     */
+    private Permit tryGrant() {
+        if (queue.isEmpty() && inFlight < currentLimit()) {
+            inFlight++;
+            return new Permit(inFlight);
+        }
+        return null;
+    }
+
+    /**
+     * Must hold {@link #lock}.
+     */
+    private CompletableFuture<Permit> enqueue() {
+        if (queue.size() >= config.getMaxQueueSize()) {
+            rejectedCount++;
+            throw new ConcurrencyLimitException("Request rejected: " + inFlight + " requests in flight and "
+                    + queue.size() + " waiting");
+        }
+        CompletableFuture<Permit> pending = new CompletableFuture<>();
+        queue.add(pending);
+        return pending;
+    }
+
+    /**
+     * Removes a waiter that gave up. Returns the permit if it was granted in the meantime, otherwise
+     * {@code null} after counting the rejection.
+     */
+    private Permit abandon(CompletableFuture<Permit> pending) {
+        synchronized (lock) {
+            if (queue.remove(pending)) {
+                rejectedCount++;
+                return null;
+            }
+        }
+        return pending.join();
+    }
+
+    private ConcurrencyLimitException queueTimeout() {
+        return new ConcurrencyLimitException("Request rejected: no slot became free within "
+                + config.getMaxQueueWait());
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    private void release(Permit permit, Outcome outcome, long rttNanos) {
+        if (permit == unlimitedPermit) {
+            return;
+        }
+        List<CompletableFuture<Permit>> granted = new ArrayList<>();
+        List<Permit> permits = new ArrayList<>();
+        synchronized (lock) {
+            inFlight--;
+            adjust(permit, outcome, rttNanos);
+            while (!queue.isEmpty() && inFlight < currentLimit()) {
+                inFlight++;
+                granted.add(queue.poll());
+                permits.add(new Permit(inFlight));
+            }
+        }
+        // Completing outside the lock, since dependent stages of async callers run on this thread.
+        for (int i = 0; i < granted.size(); i++) {
+            granted.get(i).complete(permits.get(i));
+        }
+    }
+
+    /**
+     * Must hold {@link #lock}.
+     */
+    private void adjust(Permit permit, Outcome outcome, long rttNanos) {
+        switch (outcome) {
+            case SUCCESS:
+                // Plain means until each average has enough samples, so that early samples do not dominate.
+                rttSamples++;
+                smoothedRttNanos += Math.max(SHORT_RTT_SMOOTHING, 1.0 / rttSamples) * (rttNanos - smoothedRttNanos);
+                longRttNanos += Math.max(LONG_RTT_SMOOTHING, 1.0 / rttSamples) * (rttNanos - longRttNanos);
+                if (smoothedRttNanos > longRttNanos * config.getLatencyTolerance()
+                        && smoothedRttNanos - longRttNanos > RTT_NOISE_FLOOR_NANOS) {
+                    decrease();
+                } else if (permit.inFlightAtGrant * 2 >= limit) {
+                    limit = Math.min(config.getMaxLimit(), limit + 1.0 / limit);
+                }
+                break;
+            case OVERLOAD:
+                overloadCount++;
+                decrease();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Must hold {@link #lock}. Skipped within one smoothed round trip of the previous decrease, so that
+     * signals from requests that were in flight together count once.
+     */
+    private void decrease() {
+        long now = System.nanoTime();
+        if (decreased && now - lastDecreaseNanos < (long) smoothedRttNanos) {
+            return;
+        }
+        decreased = true;
+        lastDecreaseNanos = now;
+        limit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+    }
+
+    private enum Outcome {
+        SUCCESS,
+        OVERLOAD,
+        IGNORED
+    }
+
+    /**
+     * One granted slot. Exactly one of the completion methods must be called once the attempt finished.
+     */
+    final class Permit {
+        private final int inFlightAtGrant;
+        private final long startNanos = System.nanoTime();
+        private boolean released;
+
+        private Permit(int inFlightAtGrant) {
+            this.inFlightAtGrant = inFlightAtGrant;
+        }
+
+        /**
+         * Releases the slot after a response; {@code 429} and {@code 503} count as overload.
+         */
+        void onResponse(int status) {
+            finish(status == 429 || status == 503 ? Outcome.OVERLOAD : Outcome.SUCCESS);
+        }
+
+        /**
+         * Releases the slot after a failed attempt; timeouts count as overload.
+         */
+        void onFailure(Throwable failure) {
+            finish(failure instanceof HttpTimeoutException ? Outcome.OVERLOAD : Outcome.IGNORED);
+        }
+
+        /**
+         * Releases the slot without feedback, for attempts that were never sent.
+         */
+        void release() {
+            finish(Outcome.IGNORED);
+        }
+
+        private void finish(Outcome outcome) {
+            if (this == unlimitedPermit) {
+                return;
+            }
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            ConcurrencyLimiter.this.release(this, outcome, System.nanoTime() - startNanos);
+        }
+    }
+}
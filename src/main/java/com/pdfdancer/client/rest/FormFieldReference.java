@@ -4,6 +4,8 @@ import com.pdfdancer.common.model.FormFieldRef;
 import com.pdfdancer.common.model.ObjectRef;
 import com.pdfdancer.common.model.ObjectType;
 
+import java.util.concurrent.CompletableFuture;
+
 public class FormFieldReference extends BaseReference {
     public FormFieldReference(PDFDancer client, FormFieldRef objectRef) {
         super(client, objectRef);
@@ -39,6 +41,10 @@ public class FormFieldReference extends BaseReference {
         return client.changeFormField(ref(), value);
     }
 
+    public CompletableFuture<Boolean> setValueAsync(String value) {
+        return client.changeFormFieldAsync(ref(), value);
+    }
+
     public boolean isCheckBox() {
         return ObjectType.CHECKBOX.equals(objectRef.getType());
     }
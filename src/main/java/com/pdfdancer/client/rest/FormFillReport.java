@@ -0,0 +1,132 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.common.response.CommandResult;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Outcome of {@link PDFDancer#fillForm(java.util.Map)}: one {@link FieldResult} per requested name, in the
+ * iteration order of the map that was passed in.
+ */
+public final class FormFillReport {
+
+    private final List<FieldResult> results;
+
+    FormFillReport(List<FieldResult> results) {
+        this.results = Collections.unmodifiableList(results);
+    }
+
+    public List<FieldResult> getResults() {
+        return results;
+    }
+
+    /**
+     * @return true if every requested name was found and all of its fields were changed
+     */
+    public boolean isComplete() {
+        return results.stream().allMatch(result -> result.getStatus() == Status.FILLED);
+    }
+
+    public List<String> getFilledNames() {
+        return namesWith(Status.FILLED);
+    }
+
+    public List<String> getMissingNames() {
+        return namesWith(Status.NOT_FOUND);
+    }
+
+    public List<String> getFailedNames() {
+        return namesWith(Status.FAILED);
+    }
+
+    private List<String> namesWith(Status status) {
+        return results.stream()
+                .filter(result -> result.getStatus() == status)
+                .map(FieldResult::getName)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public String toString() {
+        return "FormFillReport{" +
+                "filled=" + getFilledNames().size() +
+                ", missing=" + getMissingNames() +
+                ", failed=" + getFailedNames() +
+                '}';
+    }
+
+    public enum Status {
+        /**
+         * Every form field with the name accepted the value.
+         */
+        FILLED,
+        /**
+         * The document has no form field with the name; nothing was sent.
+         */
+        NOT_FOUND,
+        /**
+         * At least one form field with the name could not be changed.
+         */
+        FAILED
+    }
+
+    /**
+     * Result for one requested field name. A name shared by several form fields, such as a field repeated
+     * on every page, covers all of them.
+     */
+    public static final class FieldResult {
+
+        private final String name;
+        private final String value;
+        private final Status status;
+        private final List<CommandResult> commands;
+
+        FieldResult(String name, String value, Status status, List<CommandResult> commands) {
+            this.name = name;
+            this.value = value;
+            this.status = status;
+            this.commands = Collections.unmodifiableList(commands);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        /**
+         * @return one result per form field with this name, empty if none was found
+         */
+        public List<CommandResult> getCommands() {
+            return commands;
+        }
+
+        /**
+         * @return the message of the first failed change, or {@code null} if none failed
+         */
+        public String getErrorMessage() {
+            return commands.stream()
+                    .filter(command -> !command.success())
+                    .map(CommandResult::message)
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        @Override
+        public String toString() {
+            return "FieldResult{" +
+                    "name='" + name + '\'' +
+                    ", status=" + status +
+                    ", fields=" + commands.size() +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.pdfdancer.client.rest;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.pdfdancer.client.http.Argument;
+import com.pdfdancer.common.model.FormFieldRef;
+import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.model.PageRef;
+import com.pdfdancer.common.model.PathGroupInfo;
+import com.pdfdancer.common.request.AddPageRequest;
+import com.pdfdancer.common.request.AddRequest;
+import com.pdfdancer.common.request.ChangeFormFieldRequest;
+import com.pdfdancer.common.request.ClearClippingRequest;
+import com.pdfdancer.common.request.ClearPathGroupClippingRequest;
+import com.pdfdancer.common.request.CreateBlankPdfRequest;
+import com.pdfdancer.common.request.CreatePathGroupRequest;
+import com.pdfdancer.common.request.DeleteRequest;
+import com.pdfdancer.common.request.FindRequest;
+import com.pdfdancer.common.request.ImageTransformRequest;
+import com.pdfdancer.common.request.ModifyPathRequest;
+import com.pdfdancer.common.request.ModifyRequest;
+import com.pdfdancer.common.request.MovePathGroupRequest;
+import com.pdfdancer.common.request.MoveRequest;
+import com.pdfdancer.common.request.PageMoveRequest;
+import com.pdfdancer.common.request.PdfColorRequest;
+import com.pdfdancer.common.request.RemovePathGroupRequest;
+import com.pdfdancer.common.request.TextDeleteRequest;
+import com.pdfdancer.common.request.TextInsertRequest;
+import com.pdfdancer.common.request.TextLayoutRequest;
+import com.pdfdancer.common.request.TextReplaceRequest;
+import com.pdfdancer.common.request.TextReplacementImageRequest;
+import com.pdfdancer.common.request.TextSelectorRequest;
+import com.pdfdancer.common.request.TextStyleNumericFilterRequest;
+import com.pdfdancer.common.request.TextStylePatchRequest;
+import com.pdfdancer.common.request.TextStyleRequest;
+import com.pdfdancer.common.request.TextStyleRunFilterRequest;
+import com.pdfdancer.common.request.TextStyleRunsSelectorRequest;
+import com.pdfdancer.common.request.TextStyleSelectorRequest;
+import com.pdfdancer.common.request.TextStyleSetRequest;
+import com.pdfdancer.common.request.TransformPathGroupRequest;
+import com.pdfdancer.common.response.CommandResult;
+import com.pdfdancer.common.response.DocumentSnapshot;
+import com.pdfdancer.common.response.PageSnapshot;
+import com.pdfdancer.common.response.TextEditResponse;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-client registry of resolved {@link ObjectReader}s and {@link ObjectWriter}s.
+ * <p>
+ * Readers are keyed by the {@link Class}, {@link Argument} or {@link JavaType} a caller asks for, writers by the
+ * runtime class of the request body, so a request no longer resolves its type and builds a reader or writer
+ * each time. The request and response types the client exchanges are resolved up front by {@link #warmUp()}.
+ * Bytecode-generating accessors such as Jackson's Blackbird module can be enabled by passing a mapper that
+ * registers them to {@link PdfDancerHttpClient#create(java.net.http.HttpClient, java.net.URI, ObjectMapper)};
+ * the registry caches whatever that mapper produces. Responses negotiated as Smile are read with the same
+ * deserializers through a Smile parser.
+ */
+final class JsonCodecs {
+
+    private static final List<Class<?>> REQUEST_TYPES = List.of(
+            AddPageRequest.class, AddRequest.class, ChangeFormFieldRequest.class, ClearClippingRequest.class,
+            ClearPathGroupClippingRequest.class, CreateBlankPdfRequest.class, CreatePathGroupRequest.class,
+            DeleteRequest.class, FindRequest.class, ImageTransformRequest.class, ModifyPathRequest.class,
+            ModifyRequest.class, MovePathGroupRequest.class, MoveRequest.class, PageMoveRequest.class,
+            PdfColorRequest.class, RemovePathGroupRequest.class, TextDeleteRequest.class, TextInsertRequest.class,
+            TextLayoutRequest.class, TextReplaceRequest.class, TextReplacementImageRequest.class,
+            TextSelectorRequest.class, TextStyleNumericFilterRequest.class, TextStylePatchRequest.class,
+            TextStyleRequest.class, TextStyleRunFilterRequest.class, TextStyleRunsSelectorRequest.class,
+            TextStyleSelectorRequest.class, TextStyleSetRequest.class, TransformPathGroupRequest.class);
+
+    private static final List<Class<?>> RESPONSE_TYPES = List.of(
+            Boolean.class, CommandResult.class, DocumentSnapshot.class, PageSnapshot.class, TextEditResponse.class,
+            PageRef.class, PathGroupInfo.class, AnonTokenResponse.class, TypedDocumentSnapshot.class,
+            TypedPageSnapshot.class);
+
+    private static final List<Argument<?>> RESPONSE_ARGUMENTS = List.of(
+            Argument.listOf(ObjectRef.class), Argument.listOf(FormFieldRef.class), Argument.listOf(PageRef.class),
+            Argument.listOf(PathGroupInfo.class), Argument.listOf(String.class));
+
+    private final ObjectMapper mapper;
+    private final ConcurrentMap<Object, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ObjectReader, ObjectReader> smileReaders = new ConcurrentHashMap<>();
+    private final SmileFactory smileFactory = new SmileFactory();
+
+    JsonCodecs(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * Resolves readers for the API's response types and writers for its request types.
+     */
+    JsonCodecs warmUp() {
+        REQUEST_TYPES.forEach(this::writer);
+        RESPONSE_TYPES.forEach(this::reader);
+        RESPONSE_ARGUMENTS.forEach(this::reader);
+        return this;
+    }
+
+    ObjectMapper mapper() {
+        return mapper;
+    }
+
+    ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, key -> mapper.readerFor(type));
+    }
+
+    ObjectReader reader(Argument<?> argument) {
+        if (argument == null) {
+            return reader(Object.class);
+        }
+        return readers.computeIfAbsent(argument, key -> mapper.readerFor(javaType(argument)));
+    }
+
+    ObjectReader reader(JavaType type) {
+        return readers.computeIfAbsent(type, key -> mapper.readerFor(type));
+    }
+
+    /**
+     * Returns a reader with the same type and deserializers as {@code reader} that parses Smile instead of JSON.
+     */
+    ObjectReader smile(ObjectReader reader) {
+        return smileReaders.computeIfAbsent(reader, json -> json.with(smileFactory));
+    }
+
+    ObjectWriter writer(Class<?> type) {
+        return writers.computeIfAbsent(type, key -> mapper.writerFor(type));
+    }
+
+    private JavaType javaType(Argument<?> argument) {
+        TypeFactory types = mapper.getTypeFactory();
+        Class<?>[] typeArguments = argument.typeArguments();
+        if (typeArguments.length == 0) {
+            return types.constructType(argument.rawType());
+        }
+        return types.constructParametricType(argument.rawType(), typeArguments);
+    }
+}
@@ -0,0 +1,216 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.client.rest.mutation.ModificationService;
+import com.pdfdancer.common.model.*;
+import com.pdfdancer.common.request.ClearClippingRequest;
+import com.pdfdancer.common.request.ImageTransformRequest;
+import com.pdfdancer.common.response.CommandResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Records element mutations and sends them together instead of one blocking round trip per call.
+ * <p>
+ * On {@link #execute()} the recorded operations are pipelined over the asynchronous client with at most
+ * {@link #maxInFlight(int)} requests outstanding. Operations on the same element keep their recorded order;
+ * operations on different elements may overlap. Snapshot caches are invalidated once, after the whole batch,
+ * and only for the pages the batch touched.
+ * <pre>{@code
+ * MutationBatch batch = pdf.batch();
+ * for (FormFieldReference field : pdf.selectFormFields()) {
+ *     batch.setValue(field, values.get(field.getName()));
+ * }
+ * List<CommandResult> results = batch.execute();
+ * }</pre>
+ */
+public final class MutationBatch {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 8;
+
+    private final PDFDancer client;
+    private final ModificationService modification;
+    private final List<Operation> operations = new ArrayList<>();
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+    MutationBatch(PDFDancer client, ModificationService modification) {
+        this.client = client;
+        this.modification = modification;
+    }
+
+    /**
+     * Limits how many requests of this batch may be outstanding at once.
+     *
+     * @param maxInFlight maximum number of concurrent requests, at least 1
+     * @return this batch
+     */
+    public MutationBatch maxInFlight(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be >= 1");
+        }
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    public MutationBatch move(ObjectRef objectRef, Position position) {
+        Objects.requireNonNull(objectRef, "objectRef");
+        Objects.requireNonNull(position, "position");
+        return record("move", objectRef, PDFDancer.pagesOf(objectRef, position),
+                () -> modification.moveAsync(objectRef, position));
+    }
+
+    public MutationBatch moveTo(BaseReference reference, double x, double y) {
+        return move(reference.objectRef, new Position(x, y));
+    }
+
+    public MutationBatch delete(ObjectRef objectRef) {
+        Objects.requireNonNull(objectRef, "objectRef");
+        return record("delete", objectRef, PDFDancer.pagesOf(objectRef), () -> modification.deleteAsync(objectRef));
+    }
+
+    public MutationBatch delete(BaseReference reference) {
+        return delete(reference.objectRef);
+    }
+
+    public MutationBatch add(PDFObject object) {
+        Objects.requireNonNull(object, "object");
+        return record("add", null, PDFDancer.pagesOf(object.getPosition()), () -> modification.addObjectAsync(object));
+    }
+
+    public MutationBatch changeFormField(FormFieldRef formFieldRef, String value) {
+        Objects.requireNonNull(formFieldRef, "formFieldRef");
+        return record("changeFormField", formFieldRef, PDFDancer.pagesOf(formFieldRef),
+                () -> modification.changeFormFieldAsync(formFieldRef, value));
+    }
+
+    public MutationBatch setValue(FormFieldReference reference, String value) {
+        return changeFormField((FormFieldRef) reference.objectRef, value);
+    }
+
+    public MutationBatch modifyPath(ObjectRef pathRef, Color strokeColor, Color fillColor) {
+        Objects.requireNonNull(pathRef, "pathRef");
+        return record("modifyPath", pathRef, PDFDancer.pagesOf(pathRef),
+                () -> modification.modifyPathAsync(pathRef, strokeColor, fillColor));
+    }
+
+    public MutationBatch clearClipping(ObjectRef objectRef) {
+        Objects.requireNonNull(objectRef, "objectRef");
+        return record("clearClipping", objectRef, PDFDancer.pagesOf(objectRef),
+                () -> modification.clearClippingAsync(new ClearClippingRequest(objectRef)));
+    }
+
+    public MutationBatch transformImage(ImageTransformRequest request) {
+        Objects.requireNonNull(request, "request");
+        return record("transformImage", request.objectRef(), PDFDancer.pagesOf(request.objectRef()),
+                () -> modification.transformImageAsync(request));
+    }
+
+    /**
+     * @return number of operations recorded and not yet executed
+     */
+    public int size() {
+        return operations.size();
+    }
+
+    /**
+     * Sends all recorded operations and waits for them to finish. A failing operation does not stop the
+     * others; it is reported as an unsuccessful {@link CommandResult} carrying the error message.
+     * The batch is empty afterwards and may be reused.
+     *
+     * @return one result per recorded operation, in recording order
+     */
+    public List<CommandResult> execute() {
+        List<Operation> pending = new ArrayList<>(operations);
+        operations.clear();
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+
+        Semaphore permits = new Semaphore(maxInFlight);
+        Map<String, CompletableFuture<CommandResult>> lastByElement = new HashMap<>();
+        List<CompletableFuture<CommandResult>> results = new ArrayList<>(pending.size());
+        try {
+            for (Operation operation : pending) {
+                CompletableFuture<CommandResult> previous = operation.elementId() == null
+                        ? null : lastByElement.get(operation.elementId());
+                permits.acquireUninterruptibly();
+                CompletableFuture<CommandResult> result = start(operation, previous)
+                        .whenComplete((ignored, error) -> permits.release());
+                if (operation.elementId() != null) {
+                    lastByElement.put(operation.elementId(), result);
+                }
+                results.add(result);
+            }
+            CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+        } finally {
+            client.invalidateSnapshotCaches(affectedPages(pending));
+        }
+
+        List<CommandResult> collected = new ArrayList<>(results.size());
+        for (CompletableFuture<CommandResult> result : results) {
+            collected.add(result.join());
+        }
+        return Collections.unmodifiableList(collected);
+    }
+
+    private CompletableFuture<CommandResult> start(Operation operation, CompletableFuture<CommandResult> previous) {
+        CompletableFuture<?> call = previous == null
+                ? invoke(operation)
+                : previous.thenCompose(ignored -> invoke(operation));
+        return call.handle((value, error) -> toCommandResult(operation, value, error));
+    }
+
+    private static CompletableFuture<?> invoke(Operation operation) {
+        try {
+            return operation.call().get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static CommandResult toCommandResult(Operation operation, Object value, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            return new CommandResult(operation.name(), operation.elementId(), cause.getMessage(), false, null);
+        }
+        if (value instanceof CommandResult) {
+            return (CommandResult) value;
+        }
+        return new CommandResult(operation.name(), operation.elementId(), null, Boolean.TRUE.equals(value), null);
+    }
+
+    /**
+     * Union of the pages touched by the operations, or {@code null} if any operation's page is unknown.
+     */
+    private static Set<Integer> affectedPages(List<Operation> operations) {
+        Set<Integer> pages = new HashSet<>();
+        for (Operation operation : operations) {
+            if (operation.pages() == null) {
+                return null;
+            }
+            pages.addAll(operation.pages());
+        }
+        return pages;
+    }
+
+    private MutationBatch record(String name, ObjectRef target, Set<Integer> pages,
+                                 Supplier<CompletableFuture<?>> call) {
+        operations.add(new Operation(name, target == null ? null : target.getInternalId(), pages, call));
+        return this;
+    }
+
+    private record Operation(String name, String elementId, Set<Integer> pages,
+                             Supplier<CompletableFuture<?>> call) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.pdfdancer.client.rest;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonTypeResolver;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.impl.AsPropertyTypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.impl.StdTypeResolverBuilder;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.pdfdancer.common.model.ObjectRef;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Lets {@link ObjectRef} payloads bind straight from the token stream.
+ * <p>
+ * The API names an element's kind in {@code objectRefType}, {@code type} or both. Without this module the
+ * client reads every response into a tree and copies one property into the other before binding. With it,
+ * the same normalization happens while the object is read: an object that only carries {@code type} is
+ * resolved by that property, and one that only carries {@code objectRefType} has it offered to the creator
+ * as {@code type}. No tree and no second pass are needed, and the bound objects are identical.
+ */
+final class ObjectRefTypeModule extends SimpleModule {
+
+    static final String ID = ObjectRefTypeModule.class.getName();
+
+    ObjectRefTypeModule() {
+        super(ID);
+        setMixInAnnotation(ObjectRef.class, ObjectRefMixin.class);
+    }
+
+    @Override
+    public Object getTypeId() {
+        return ID;
+    }
+
+    @JsonTypeResolver(ObjectRefTypeResolverBuilder.class)
+    abstract static class ObjectRefMixin {
+    }
+
+    static final class ObjectRefTypeResolverBuilder extends StdTypeResolverBuilder {
+
+        @Override
+        public TypeDeserializer buildTypeDeserializer(DeserializationConfig config, JavaType baseType,
+                                                      Collection<NamedType> subtypes) {
+            TypeDeserializer deserializer = super.buildTypeDeserializer(config, baseType, subtypes);
+            if (deserializer instanceof AsPropertyTypeDeserializer) {
+                return new ObjectRefTypeDeserializer((AsPropertyTypeDeserializer) deserializer, null);
+            }
+            return deserializer;
+        }
+    }
+
+    /**
+     * Resolves subtypes by {@code objectRefType}, falling back to {@code type}, and makes sure the creator
+     * sees a {@code type} value.
+     */
+    static final class ObjectRefTypeDeserializer extends AsPropertyTypeDeserializer {
+
+        private static final String FALLBACK_PROPERTY = "type";
+
+        ObjectRefTypeDeserializer(AsPropertyTypeDeserializer src, BeanProperty property) {
+            super(src, property);
+        }
+
+        @Override
+        public TypeDeserializer forProperty(BeanProperty prop) {
+            return prop == _property ? this : new ObjectRefTypeDeserializer(this, prop);
+        }
+
+        @Override
+        protected Object _deserializeTypedForId(JsonParser p, DeserializationContext ctxt, TokenBuffer tb,
+                                                String typeId) throws IOException {
+            // The discriminator itself is not passed on. If no "type" was read before it, offer its value as
+            // "type"; a "type" property later in the object still takes precedence.
+            if (tb == null || bufferedTypeId(tb) == null) {
+                if (tb == null) {
+                    tb = ctxt.bufferForInputBuffering(p);
+                }
+                tb.writeFieldName(FALLBACK_PROPERTY);
+                tb.writeString(typeId);
+            }
+            return super._deserializeTypedForId(p, ctxt, tb, typeId);
+        }
+
+        @Override
+        protected Object _deserializeTypedUsingDefaultImpl(JsonParser p, DeserializationContext ctxt,
+                                                           TokenBuffer tb, String priorFailureMsg) throws IOException {
+            String typeId = tb == null ? null : bufferedTypeId(tb);
+            if (typeId == null) {
+                return super._deserializeTypedUsingDefaultImpl(p, ctxt, tb, priorFailureMsg);
+            }
+            JsonDeserializer<Object> deserializer = _findDeserializer(ctxt, typeId);
+            tb.writeEndObject();
+            JsonParser buffered = tb.asParser(p);
+            buffered.nextToken();
+            return deserializer.deserialize(buffered, ctxt);
+        }
+
+        /**
+         * Finds the top-level {@code type} value among the properties buffered while looking for the discriminator.
+         */
+        private static String bufferedTypeId(TokenBuffer tb) throws IOException {
+            try (JsonParser scan = tb.asParser()) {
+                for (JsonToken t = scan.nextToken(); t == JsonToken.FIELD_NAME; t = scan.nextToken()) {
+                    String name = scan.currentName();
+                    JsonToken value = scan.nextToken();
+                    if (FALLBACK_PROPERTY.equals(name) && value == JsonToken.VALUE_STRING) {
+                        return scan.getText();
+                    }
+                    scan.skipChildren();
+                }
+            }
+            return null;
+        }
+    }
+}
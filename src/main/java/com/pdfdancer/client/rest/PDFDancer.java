@@ -13,20 +13,27 @@ import com.pdfdancer.common.response.PageSnapshot;
 import com.pdfdancer.common.response.TextEditResponse;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.pdfdancer.common.model.ObjectType.FORM_FIELD;
 import static com.pdfdancer.common.util.ExceptionUtils.wrapCheckedException;
-import static com.pdfdancer.common.util.FileUtils.writeBytesToFile;
 
 /**
  * REST API client for interacting with the PDFDancer PDF manipulation service.
@@ -68,10 +75,10 @@ public class PDFDancer {
         this.sessionId = sessionId;
         this.httpClient = client;
         this.blockingClient = client.toBlocking();
-        this.snapshotCache = new SnapshotCache(token, sessionId, this.blockingClient);
+        this.snapshotCache = new SnapshotCache(token, sessionId, client);
         this.selection = new SelectionService();
-        this.modification = new ModificationService(token, sessionId, this.blockingClient);
-        this.textEditing = new TextEditingService(token, sessionId, this.blockingClient);
+        this.modification = new ModificationService(token, sessionId, client);
+        this.textEditing = new TextEditingService(token, sessionId, client);
     }
 
     /**
@@ -84,7 +91,7 @@ public class PDFDancer {
      */
     @SuppressWarnings("unused")
     public static PDFDancer createSession(String token, File pdfFile) {
-        return createSession(token, readFile(pdfFile), getDefaultClient());
+        return createSession(token, pdfFile.toPath(), getDefaultClient());
     }
 
     /**
@@ -99,10 +106,42 @@ public class PDFDancer {
      */
     @SuppressWarnings("unused")
     public static PDFDancer createSession(File pdfFile) {
+        return createSession(pdfFile.toPath());
+    }
+
+    /**
+     * Creates a new PDFDancer client by streaming an existing PDF file to the server.
+     * The file is never loaded into memory as a whole, so upload memory use is constant.
+     * Uses the default HTTP client configured for https://api.pdfdancer.com.
+     * Authentication:
+     * - If PDFDANCER_API_TOKEN or PDFDANCER_TOKEN is set, uses it
+     * - Otherwise, automatically issues an anonymous token and proceeds
+     *
+     * @param pdfFile PDF file to upload and process
+     * @return PDFDancer client instance with an active session
+     * @throws PdfDancerClientException if the file does not exist or cannot be read; checked before an
+     *                                  anonymous token is requested
+     */
+    public static PDFDancer createSession(Path pdfFile) {
+        if (!Files.isReadable(pdfFile)) {
+            throw new PdfDancerClientException("PDF file not found or not readable: " + pdfFile);
+        }
         PdfDancerHttpClient client = getDefaultClient();
-        byte[] bytes = readFile(pdfFile);
         String token = envTokenOrNull();
-        return token != null ? createSession(token, bytes, client) : createAnonSession(bytes, client);
+        return createSession(token != null ? token : obtainAnonymousToken(client), pdfFile, client);
+    }
+
+    /**
+     * Creates a new PDFDancer client by streaming an existing PDF file to the server.
+     *
+     * @param token   authentication token for API access
+     * @param pdfFile PDF file to upload and process
+     * @param client  HTTP client for API communication
+     * @return PDFDancer client instance with an active session
+     */
+    public static PDFDancer createSession(String token, Path pdfFile, PdfDancerHttpClient client) {
+        String sessionId = SessionService.uploadPdfForSession(token, pdfFile, client);
+        return new PDFDancer(token, sessionId, client);
     }
 
     /**
@@ -135,6 +174,21 @@ public class PDFDancer {
         return new PDFDancer(token, sessionId, client);
     }
 
+    /**
+     * Asynchronous variant of {@link #createSession(String, byte[], PdfDancerHttpClient)}.
+     * The upload runs on the HTTP client's executor and the returned future completes with
+     * a client bound to the new session.
+     *
+     * @param token    authentication token for API access
+     * @param bytesPDF PDF file data as byte array
+     * @param client   HTTP client for API communication
+     * @return future completing with a PDFDancer client instance with an active session
+     */
+    public static CompletableFuture<PDFDancer> createSessionAsync(String token, byte[] bytesPDF, PdfDancerHttpClient client) {
+        return SessionService.uploadPdfForSessionAsync(token, bytesPDF, client)
+                .thenApply(sessionId -> new PDFDancer(token, sessionId, client));
+    }
+
     @SuppressWarnings("unused")
     public static PDFDancer createSession(String token, byte[] bytesPDF, HttpClient httpClient) {
         return createSession(token, bytesPDF, PdfDancerHttpClient.create(httpClient, getBaseUrl()));
@@ -268,7 +322,8 @@ public class PDFDancer {
     /**
      * Creates a default HTTP client configured for the hosted PDFDancer API.
      * This method provides a preconfigured client for connecting to https://api.pdfdancer.com
-     * when no custom {@link java.net.http.HttpClient} is supplied.
+     * when no custom {@link java.net.http.HttpClient} is supplied. All such clients share the connections
+     * of {@link PdfDancerTransport#shared()}.
      *
      * @return HTTP client configured for https://api.pdfdancer.com
      * @throws RuntimeException if URL creation fails
@@ -323,27 +378,6 @@ public class PDFDancer {
         );
     }
 
-    /**
-     * Reads a file completely into a byte array.
-     * This utility method safely reads the entire contents of a file
-     * using proper resource management with try-with-resources.
-     *
-     * @param file the file to read
-     * @return complete file contents as byte array
-     * @throws RuntimeException if file reading fails
-     */
-    private static byte[] readFile(File file) {
-        try (InputStream inputStream = new FileInputStream(file)) {
-            try {
-                return Objects.requireNonNull(inputStream).readAllBytes();
-            } catch (IOException e) {
-                throw wrapCheckedException(e);
-            }
-        } catch (IOException e) {
-            throw wrapCheckedException(e);
-        }
-    }
-
     public String getToken() {
         return token;
     }
@@ -362,6 +396,16 @@ public class PDFDancer {
         return result;
     }
 
+    /**
+     * Asynchronous variant of {@link #deletePage(ObjectRef)}.
+     *
+     * @param pageRef reference to the page to be deleted
+     * @return future completing with true if the page was successfully deleted
+     */
+    public CompletableFuture<Boolean> deletePageAsync(ObjectRef pageRef) {
+        return invalidatingAfter(modification.deletePageAsync(pageRef));
+    }
+
     /**
      * Searches for PDF objects matching the specified criteria.
      * This method provides flexible search capabilities across all PDF content,
@@ -376,6 +420,7 @@ public class PDFDancer {
         return blockingClient.retrieve(
                 HttpRequest.POST(path, new FindRequest(type, position, null))
                         .contentType(MediaType.APPLICATION_JSON_TYPE)
+                        .accept(MediaType.APPLICATION_SMILE_TYPE, MediaType.APPLICATION_JSON_TYPE)
                         .bearerAuth(token)
                         .header("X-Session-Id", sessionId),
                 Argument.listOf(ObjectRef.class)
@@ -392,10 +437,14 @@ public class PDFDancer {
      */
     protected boolean delete(ObjectRef objectRef) {
         Boolean result = modification.delete(objectRef);
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(pagesOf(objectRef));
         return Boolean.TRUE.equals(result);
     }
 
+    protected CompletableFuture<Boolean> deleteAsync(ObjectRef objectRef) {
+        return invalidatingAfter(modification.deleteAsync(objectRef), pagesOf(objectRef)).thenApply(Boolean.TRUE::equals);
+    }
+
     /**
      * Retrieves references to all pages in the PDF document.
      * This method returns a list of object references for every page
@@ -408,6 +457,7 @@ public class PDFDancer {
         return blockingClient.retrieve(
                 HttpRequest.POST(path, null)
                         .contentType(MediaType.APPLICATION_JSON_TYPE)
+                        .accept(MediaType.APPLICATION_SMILE_TYPE, MediaType.APPLICATION_JSON_TYPE)
                         .bearerAuth(token)
                         .header("X-Session-Id", sessionId),
                 Argument.listOf(PageRef.class)
@@ -439,6 +489,7 @@ public class PDFDancer {
         List<ObjectRef> result = blockingClient.retrieve(
                 HttpRequest.POST(path, null)
                         .contentType(MediaType.APPLICATION_JSON_TYPE)
+                        .accept(MediaType.APPLICATION_SMILE_TYPE, MediaType.APPLICATION_JSON_TYPE)
                         .bearerAuth(token)
                         .header("X-Session-Id", sessionId),
                 Argument.listOf(ObjectRef.class)
@@ -455,12 +506,21 @@ public class PDFDancer {
      * @return PDF file data as byte array with all session modifications applied
      */
     public byte[] getFileBytes() {
-        String path = "/session/" + sessionId + "/pdf";
-        return blockingClient.retrieve(
-                HttpRequest.GET(path)
-                        .bearerAuth(token),
-                byte[].class
-        );
+        return blockingClient.retrieve(fileRequest(), byte[].class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getFileBytes()}.
+     *
+     * @return future completing with the PDF file data with all session modifications applied
+     */
+    public CompletableFuture<byte[]> getFileBytesAsync() {
+        return httpClient.toAsync().retrieve(fileRequest(), byte[].class);
+    }
+
+    private MutableHttpRequest<Object> fileRequest() {
+        return HttpRequest.GET("/session/" + sessionId + "/pdf")
+                .bearerAuth(token);
     }
 
     /**
@@ -474,16 +534,20 @@ public class PDFDancer {
      */
     protected Boolean move(ObjectRef objectRef, Position position) {
         Boolean result = modification.move(objectRef, position);
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(pagesOf(objectRef, position));
         return result;
     }
 
+    protected CompletableFuture<Boolean> moveAsync(ObjectRef objectRef, Position position) {
+        return invalidatingAfter(modification.moveAsync(objectRef, position), pagesOf(objectRef, position));
+    }
+
     public boolean clearClipping(ObjectRef objectRef) {
         if (objectRef == null) {
             throw new IllegalArgumentException("objectRef must not be null");
         }
         boolean result = Boolean.TRUE.equals(modification.clearClipping(new ClearClippingRequest(objectRef)));
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(pagesOf(objectRef));
         return result;
     }
 
@@ -498,13 +562,13 @@ public class PDFDancer {
      */
     protected boolean addImage(Image image, Position position) {
         boolean result = modification.addImage(image, position);
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(pagesOf(position));
         return result;
     }
 
     protected Boolean addObject(PDFObject object) {
         Boolean result = modification.addObject(object);
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(pagesOf(object.getPosition()));
         return result;
     }
 
@@ -512,30 +576,119 @@ public class PDFDancer {
         snapshotCache.invalidate();
     }
 
+    /**
+     * Applies a memory budget to this session's snapshot cache. Entries beyond the budget are evicted
+     * immediately; by default the cache is unbounded.
+     *
+     * @param config the cache budget
+     * @return this client
+     */
+    public PDFDancer configureSnapshotCache(SnapshotCacheConfig config) {
+        snapshotCache.configure(Objects.requireNonNull(config, "config"));
+        return this;
+    }
+
+    /**
+     * @return hit, miss and eviction counters of this session's snapshot cache
+     */
+    public SnapshotCacheStats getSnapshotCacheStats() {
+        return snapshotCache.stats();
+    }
+
+    /**
+     * Invalidates cached snapshots for the given 1-based pages only, or everything when the affected
+     * pages are unknown ({@code null}).
+     */
+    void invalidateSnapshotCaches(Set<Integer> pageNumbers) {
+        if (pageNumbers == null) {
+            snapshotCache.invalidate();
+        } else {
+            snapshotCache.invalidatePages(pageNumbers);
+        }
+    }
+
+    /**
+     * Pages touched by a mutation of {@code objectRef}, optionally moved to {@code target};
+     * {@code null} when any of them is unknown.
+     */
+    static Set<Integer> pagesOf(ObjectRef objectRef, Position target) {
+        Set<Integer> source = objectRef == null ? null : pagesOf(objectRef.getPosition());
+        if (source == null || target == null || target.getPageNumber() == null) {
+            return source;
+        }
+        Set<Integer> pages = new java.util.HashSet<>(source);
+        pages.add(target.getPageNumber());
+        return pages;
+    }
+
+    static Set<Integer> pagesOf(ObjectRef objectRef) {
+        return pagesOf(objectRef, null);
+    }
+
+    static Set<Integer> pagesOf(Position position) {
+        return position == null || position.getPageNumber() == null ? null : Set.of(position.getPageNumber());
+    }
+
+    private static Set<Integer> pagesOf(TextEditResponse response) {
+        return response == null || response.pagesChanged() == null ? null : Set.copyOf(response.pagesChanged());
+    }
+
+    /**
+     * Invalidates the snapshot caches once the given mutation completes, successfully or not,
+     * mirroring the blocking methods which invalidate after every mutation call.
+     */
+    private <T> CompletableFuture<T> invalidatingAfter(CompletableFuture<T> mutation) {
+        return invalidatingAfter(mutation, null);
+    }
+
+    private <T> CompletableFuture<T> invalidatingAfter(CompletableFuture<T> mutation, Set<Integer> pageNumbers) {
+        return mutation.whenComplete((result, error) -> invalidateSnapshotCaches(error == null ? pageNumbers : null));
+    }
+
+    private CompletableFuture<TextEditResponse> invalidatingTextEdit(CompletableFuture<TextEditResponse> edit) {
+        return edit.whenComplete((result, error) -> invalidateSnapshotCaches(pagesOf(result)));
+    }
+
     TextEditResponse replaceText(TextReplaceRequest request) {
         TextEditResponse result = textEditing.replace(request);
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(pagesOf(result));
         return result;
     }
 
     TextEditResponse deleteText(TextDeleteRequest request) {
         TextEditResponse result = textEditing.delete(request);
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(pagesOf(result));
         return result;
     }
 
     TextEditResponse insertText(TextInsertRequest request) {
         TextEditResponse result = textEditing.insert(request);
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(pagesOf(result));
         return result;
     }
 
     TextEditResponse styleText(TextStyleRequest request) {
         TextEditResponse result = textEditing.style(request);
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(pagesOf(result));
         return result;
     }
 
+    CompletableFuture<TextEditResponse> replaceTextAsync(TextReplaceRequest request) {
+        return invalidatingTextEdit(textEditing.replaceAsync(request));
+    }
+
+    CompletableFuture<TextEditResponse> deleteTextAsync(TextDeleteRequest request) {
+        return invalidatingTextEdit(textEditing.deleteAsync(request));
+    }
+
+    CompletableFuture<TextEditResponse> insertTextAsync(TextInsertRequest request) {
+        return invalidatingTextEdit(textEditing.insertAsync(request));
+    }
+
+    CompletableFuture<TextEditResponse> styleTextAsync(TextStyleRequest request) {
+        return invalidatingTextEdit(textEditing.styleAsync(request));
+    }
+
 
     DocumentSnapshot getDocumentSnapshotCached(String types) {
         return snapshotCache.getDocumentSnapshotCached(types);
@@ -568,11 +721,28 @@ public class PDFDancer {
         return selection.collectFormFieldRefsFromPage(this, pageNumber);
     }
 
+    SpatialIndex<ObjectRef> pageElementIndex(int pageNumber) {
+        return snapshotCache.pageElementIndex(pageNumber);
+    }
+
+    SpatialIndex<FormFieldRef> formFieldIndex(int pageNumber) {
+        return snapshotCache.formFieldIndex(pageNumber, () -> collectFormFieldRefsFromPage(pageNumber));
+    }
+
+    Map<String, List<FormFieldRef>> pageFormFieldsByName(int pageNumber) {
+        return snapshotCache.pageFormFieldsByName(pageNumber, () -> collectFormFieldRefsFromPage(pageNumber));
+    }
+
+    Map<String, ObjectRef> pageElementsById(int pageNumber) {
+        return snapshotCache.pageElementsById(pageNumber);
+    }
+
     private List<FormFieldRef> findFormFields(Position position) {
         String path = "/pdf/find";
         return blockingClient.retrieve(
                 HttpRequest.POST(path, new FindRequest(FORM_FIELD, position, null))
                         .contentType(MediaType.APPLICATION_JSON_TYPE)
+                        .accept(MediaType.APPLICATION_SMILE_TYPE, MediaType.APPLICATION_JSON_TYPE)
                         .bearerAuth(token)
                         .header("X-Session-Id", sessionId),
                 Argument.listOf(FormFieldRef.class)
@@ -617,9 +787,8 @@ public class PDFDancer {
 
     public String registerFont(File ttfFile) {
         String path = "/font/register";
-        byte[] bytes = readFile(ttfFile);
         MultipartBody body = MultipartBody.builder()
-                .addPart("ttfFile", ttfFile.getName(), new MediaType("font/ttf"), bytes)
+                .addPart("ttfFile", ttfFile.getName(), new MediaType("font/ttf"), ttfFile.toPath())
                 .build();
         return blockingClient.retrieve(
                 HttpRequest.POST(path, body)
@@ -645,13 +814,73 @@ public class PDFDancer {
     public RectangleBuilder newRectangle(int pageNumber) { return new RectangleBuilder(this, pageNumber); }
 
     public void save(String filePath) {
+        save(Path.of(filePath));
+    }
+
+    /**
+     * Streams the current PDF straight to a file, creating parent directories as needed.
+     * The document is never held in memory as a whole, which keeps heap usage flat for large outputs.
+     * It is downloaded to a temporary file next to the target first, so a failed download leaves an
+     * existing file untouched.
+     *
+     * @param filePath target file; replaced if it already exists
+     * @return number of bytes written
+     */
+    public long save(Path filePath) {
+        Path parent = filePath.toAbsolutePath().getParent();
+        Path tmp = null;
         try {
-            writeBytesToFile(this.getFileBytes(), filePath);
+            Files.createDirectories(parent);
+            tmp = Files.createTempFile(parent, "." + filePath.getFileName(), ".part");
+            long written;
+            try (InputStream in = openStream()) {
+                written = Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            try {
+                Files.move(tmp, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return written;
+        } catch (IOException | RuntimeException e) {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw wrapCheckedException(e);
+        }
+    }
+
+    /**
+     * Streams the current PDF to the given sink. The sink is flushed but not closed.
+     *
+     * @param out destination for the PDF bytes
+     * @return number of bytes written
+     */
+    public long writeTo(OutputStream out) {
+        Objects.requireNonNull(out, "out");
+        try (InputStream in = openStream()) {
+            long written = in.transferTo(out);
+            out.flush();
+            return written;
         } catch (IOException e) {
             throw wrapCheckedException(e);
         }
     }
 
+    /**
+     * Opens the current PDF as a stream read directly from the HTTP response.
+     * The caller must close the returned stream to release the underlying connection.
+     *
+     * @return stream over the PDF with all session modifications applied
+     */
+    public InputStream openStream() {
+        return blockingClient.stream(fileRequest());
+    }
+
     /**
      * Retrieves a complete snapshot of the entire PDF document.
      * This method returns all pages with their elements, document metadata,
@@ -674,6 +903,34 @@ public class PDFDancer {
         return getDocumentSnapshotCached(types);
     }
 
+    /**
+     * Streams the pages of a document snapshot one at a time as the response is parsed.
+     * Unlike {@link #getDocumentSnapshot()}, the full snapshot is never held in memory and
+     * the snapshot cache is bypassed. The stream keeps the HTTP response open, so close it
+     * when done, preferably with try-with-resources:
+     * <pre>{@code
+     * try (Stream<PageSnapshot> pages = pdf.streamDocumentSnapshot()) {
+     *     pages.forEach(page -> index(page));
+     * }
+     * }</pre>
+     *
+     * @return lazily parsed stream of page snapshots in page order
+     */
+    public Stream<PageSnapshot> streamDocumentSnapshot() {
+        return streamDocumentSnapshot(null);
+    }
+
+    /**
+     * Streams the pages of a document snapshot with type filtering.
+     * See {@link #streamDocumentSnapshot()} for resource handling.
+     *
+     * @param types comma-separated list of object types to include (e.g., "IMAGE,PATH")
+     * @return lazily parsed stream of filtered page snapshots in page order
+     */
+    public Stream<PageSnapshot> streamDocumentSnapshot(String types) {
+        return snapshotCache.streamDocumentSnapshot(types);
+    }
+
     /**
      * Retrieves a snapshot of a single PDF page.
      * This method returns the page metadata and all elements in a single response.
@@ -705,15 +962,65 @@ public class PDFDancer {
         return getPageSnapshotCached(pageNumber, types);
     }
 
+    /**
+     * Asynchronous variant of {@link #getDocumentSnapshot()}. Served from the snapshot cache
+     * when possible, otherwise fetched without blocking the calling thread.
+     *
+     * @return future completing with the document snapshot
+     */
+    public CompletableFuture<DocumentSnapshot> getDocumentSnapshotAsync() {
+        return getDocumentSnapshotAsync(null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getDocumentSnapshot(String)}.
+     *
+     * @param types comma-separated list of object types to include (e.g., "IMAGE,PATH")
+     * @return future completing with the filtered document snapshot
+     */
+    public CompletableFuture<DocumentSnapshot> getDocumentSnapshotAsync(String types) {
+        return snapshotCache.getDocumentSnapshotAsync(types);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getPageSnapshot(int)}.
+     *
+     * @param pageNumber the page number to retrieve (1-based indexing, page 1 is first page)
+     * @return future completing with the page snapshot
+     * @throws IllegalArgumentException if pageNumber is less than 1
+     */
+    public CompletableFuture<PageSnapshot> getPageSnapshotAsync(int pageNumber) {
+        return getPageSnapshotAsync(pageNumber, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getPageSnapshot(int, String)}.
+     *
+     * @param pageNumber the page number to retrieve (1-based indexing, page 1 is first page)
+     * @param types      comma-separated list of object types to include (e.g., "IMAGE,PATH")
+     * @return future completing with the filtered page snapshot
+     * @throws IllegalArgumentException if pageNumber is less than 1
+     */
+    public CompletableFuture<PageSnapshot> getPageSnapshotAsync(int pageNumber, String types) {
+        if (pageNumber < 1) {
+            throw new IllegalArgumentException("Page number must be >= 1 (1-based indexing)");
+        }
+        return snapshotCache.getPageSnapshotAsync(pageNumber, types);
+    }
+
     protected boolean changeFormField(FormFieldRef objectRef, String value) {
         Boolean result = modification.changeFormField(objectRef, value);
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(pagesOf(objectRef));
         return Boolean.TRUE.equals(result);
     }
 
+    protected CompletableFuture<Boolean> changeFormFieldAsync(FormFieldRef objectRef, String value) {
+        return invalidatingAfter(modification.changeFormFieldAsync(objectRef, value), pagesOf(objectRef)).thenApply(Boolean.TRUE::equals);
+    }
+
     protected CommandResult modifyPath(ObjectRef ref, Color strokeColor, Color fillColor) {
         CommandResult result = modification.modifyPath(ref, strokeColor, fillColor);
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(pagesOf(ref));
         return result;
     }
 
@@ -786,13 +1093,16 @@ public class PDFDancer {
                 .collect(Collectors.toUnmodifiableList());
     }
 
+    /**
+     * Selects all form fields with the specified name. Names are looked up in an index built once per
+     * snapshot generation, so repeated lookups cost no further requests or scans.
+     *
+     * @param elementName the name of the form fields to find
+     * @return list of form fields with the given name, in document order
+     */
     public List<FormFieldReference> selectFormFieldsByName(String elementName) {
-        List<FormFieldRef> base = collectFormFieldRefsFromDocument();
-        return toFormFieldObject(
-                base.stream()
-                        .filter(ref -> Objects.equals(ref.getName(), elementName))
-                        .collect(Collectors.toUnmodifiableList())
-        );
+        Map<String, List<FormFieldRef>> byName = snapshotCache.formFieldsByName(this::collectFormFieldRefsFromDocument);
+        return toFormFieldObject(byName.getOrDefault(elementName, List.of()));
     }
 
     /**
@@ -806,6 +1116,17 @@ public class PDFDancer {
         return formFields.isEmpty() ? java.util.Optional.empty() : java.util.Optional.of(formFields.get(0));
     }
 
+    /**
+     * Selects the element with the given internal id from the cached document snapshot.
+     * Ids are looked up in an index built once per snapshot generation.
+     *
+     * @param internalId the element's internal id
+     * @return Optional containing the element, or empty if the document has no element with that id
+     */
+    public java.util.Optional<ObjectRef> selectById(String internalId) {
+        return java.util.Optional.ofNullable(snapshotCache.elementsById().get(internalId));
+    }
+
     public List<ObjectRef> selectElements() {
         List<ObjectRef> fallback = find(null, null);
         DocumentSnapshot snapshot = getDocumentSnapshotCached(null);
@@ -826,6 +1147,10 @@ public class PDFDancer {
         return result;
     }
 
+    public CompletableFuture<PageRef> addPageAsync(AddPageRequest request) {
+        return invalidatingAfter(modification.addPageAsync(request));
+    }
+
     /**
      * Creates a new page builder for fluent page creation.
      *
@@ -835,6 +1160,74 @@ public class PDFDancer {
         return new PageBuilder(this);
     }
 
+    /**
+     * Starts a batch of element mutations that are sent together instead of one blocking round trip each.
+     *
+     * @return a new, empty mutation batch bound to this session
+     * @see MutationBatch
+     */
+    public MutationBatch batch() {
+        return new MutationBatch(this, modification);
+    }
+
+    /**
+     * Runs per-page reads such as page snapshots or path groups concurrently, on virtual threads where the
+     * runtime supports them.
+     *
+     * @return a fan-out helper bound to this session, capped at {@link ParallelPages#DEFAULT_MAX_CONCURRENCY}
+     * @see ParallelPages
+     */
+    public ParallelPages parallel() {
+        return new ParallelPages(this);
+    }
+
+    /**
+     * Sets form field values by name. All names are resolved against one form-field snapshot, the changes
+     * are pipelined with at most {@link MutationBatch#DEFAULT_MAX_IN_FLIGHT} requests outstanding, and the
+     * snapshot caches are invalidated once at the end. A name shared by several fields sets all of them.
+     *
+     * @param valuesByName new values keyed by form field name
+     * @return a report with one entry per name, in the map's iteration order
+     */
+    public FormFillReport fillForm(Map<String, String> valuesByName) {
+        return fillForm(valuesByName, MutationBatch.DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Sets form field values by name with at most {@code maxInFlight} requests outstanding.
+     *
+     * @param valuesByName new values keyed by form field name
+     * @param maxInFlight  maximum number of concurrent requests, at least 1
+     * @return a report with one entry per name, in the map's iteration order
+     * @see #fillForm(Map)
+     */
+    public FormFillReport fillForm(Map<String, String> valuesByName, int maxInFlight) {
+        Objects.requireNonNull(valuesByName, "valuesByName");
+        MutationBatch batch = batch().maxInFlight(maxInFlight);
+        Map<String, List<FormFieldRef>> byName = snapshotCache.formFieldsByName(this::collectFormFieldRefsFromDocument);
+        List<List<FormFieldRef>> fieldsPerName = new ArrayList<>(valuesByName.size());
+        valuesByName.forEach((name, value) -> {
+            List<FormFieldRef> fields = byName.getOrDefault(name, List.of());
+            fields.forEach(field -> batch.changeFormField(field, value));
+            fieldsPerName.add(fields);
+        });
+
+        List<CommandResult> commands = batch.execute();
+        List<FormFillReport.FieldResult> results = new ArrayList<>(valuesByName.size());
+        int next = 0;
+        int index = 0;
+        for (Map.Entry<String, String> entry : valuesByName.entrySet()) {
+            int count = fieldsPerName.get(index++).size();
+            List<CommandResult> own = commands.subList(next, next + count);
+            next += count;
+            FormFillReport.Status status = count == 0 ? FormFillReport.Status.NOT_FOUND
+                    : own.stream().allMatch(CommandResult::success) ? FormFillReport.Status.FILLED
+                    : FormFillReport.Status.FAILED;
+            results.add(new FormFillReport.FieldResult(entry.getKey(), entry.getValue(), status, List.copyOf(own)));
+        }
+        return new FormFillReport(results);
+    }
+
     public TextClient text() {
         return new TextClient(this);
     }
@@ -867,6 +1260,24 @@ public class PDFDancer {
         return Boolean.TRUE.equals(result);
     }
 
+    /**
+     * Asynchronous variant of {@link #movePage(int, int)}.
+     *
+     * @param fromPage the source page number (1-based indexing, page 1 is first page)
+     * @param toPage   the target page number (1-based indexing)
+     * @return future completing with true if the page was successfully moved
+     * @throws IllegalArgumentException if fromPage or toPage is less than 1
+     */
+    public CompletableFuture<Boolean> movePageAsync(int fromPage, int toPage) {
+        if (fromPage < 1) {
+            throw new IllegalArgumentException("fromPage must be >= 1 (1-based indexing)");
+        }
+        if (toPage < 1) {
+            throw new IllegalArgumentException("toPage must be >= 1 (1-based indexing)");
+        }
+        return invalidatingAfter(modification.movePageAsync(fromPage, toPage)).thenApply(Boolean.TRUE::equals);
+    }
+
     /**
      * Transforms an image in the PDF document.
      *
@@ -875,13 +1286,13 @@ public class PDFDancer {
      */
     protected CommandResult transformImage(ImageTransformRequest request) {
         CommandResult result = modification.transformImage(request);
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(pagesOf(request.objectRef()));
         return result;
     }
 
     PathGroupInfo createPathGroup(CreatePathGroupRequest request) {
         PathGroupInfo result = modification.createPathGroup(request);
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(Set.of(request.pageIndex() + 1));
         return result;
     }
 
@@ -889,7 +1300,7 @@ public class PDFDancer {
         int pageIndex = pageNumber - 1;
         boolean result = Boolean.TRUE.equals(modification.movePathGroup(
                 new MovePathGroupRequest(pageIndex, groupId, x, y)));
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(Set.of(pageNumber));
         return result;
     }
 
@@ -898,7 +1309,7 @@ public class PDFDancer {
         boolean result = Boolean.TRUE.equals(modification.transformPathGroup(
                 new TransformPathGroupRequest(pageIndex, groupId,
                         TransformPathGroupRequest.TransformType.SCALE, scaleFactor, null, null, null)));
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(Set.of(pageNumber));
         return result;
     }
 
@@ -907,7 +1318,7 @@ public class PDFDancer {
         boolean result = Boolean.TRUE.equals(modification.transformPathGroup(
                 new TransformPathGroupRequest(pageIndex, groupId,
                         TransformPathGroupRequest.TransformType.ROTATE, null, degrees, null, null)));
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(Set.of(pageNumber));
         return result;
     }
 
@@ -916,7 +1327,7 @@ public class PDFDancer {
         boolean result = Boolean.TRUE.equals(modification.transformPathGroup(
                 new TransformPathGroupRequest(pageIndex, groupId,
                         TransformPathGroupRequest.TransformType.RESIZE, null, null, width, height)));
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(Set.of(pageNumber));
         return result;
     }
 
@@ -924,7 +1335,7 @@ public class PDFDancer {
         int pageIndex = pageNumber - 1;
         boolean result = Boolean.TRUE.equals(modification.removePathGroup(
                 new RemovePathGroupRequest(pageIndex, groupId)));
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(Set.of(pageNumber));
         return result;
     }
 
@@ -937,7 +1348,7 @@ public class PDFDancer {
         }
         boolean result = Boolean.TRUE.equals(modification.clearPathGroupClipping(
                 new ClearPathGroupClippingRequest(pageNumber, groupId)));
-        invalidateSnapshotCaches();
+        invalidateSnapshotCaches(Set.of(pageNumber));
         return result;
     }
 
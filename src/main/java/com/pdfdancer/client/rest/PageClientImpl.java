@@ -32,11 +32,16 @@ class PageClientImpl {
     }
 
     public List<PathReference> selectPathsAt(double x, double y, double epsilon) {
-        PageSnapshot snapshot = root.getPageSnapshotCached(pageNumber, null);
-        List<ObjectRef> paths = root.collectObjectsByType(snapshot, Set.of(ObjectType.PATH));
-        return root.toPathObject(paths.stream()
-                .filter(ref -> root.containsPoint(ref, x, y, epsilon))
-                .collect(Collectors.toUnmodifiableList()));
+        return root.toPathObject(elementsAt(ObjectType.PATH, x, y, epsilon));
+    }
+
+    /**
+     * Elements of the given type whose bounds contain the point, looked up in the page's spatial index.
+     */
+    private List<ObjectRef> elementsAt(ObjectType type, double x, double y, double epsilon) {
+        return root.pageElementIndex(pageNumber).containing(x, y, epsilon).stream()
+                .filter(ref -> ref.getType() == type)
+                .collect(Collectors.toUnmodifiableList());
     }
 
     /**
@@ -67,12 +72,7 @@ class PageClientImpl {
     public List<ImageReference> selectImagesAt(double x, double y) { return selectImagesAt(x, y, PDFDancer.DEFAULT_EPSILON); }
 
     public List<ImageReference> selectImagesAt(double x, double y, double epsilon) {
-        PageSnapshot snapshot = root.getPageSnapshotCached(pageNumber, null);
-        List<ObjectRef> images = root.collectObjectsByType(snapshot, Set.of(ObjectType.IMAGE));
-        List<ObjectRef> filtered = images.stream()
-                .filter(ref -> root.containsPoint(ref, x, y, epsilon))
-                .collect(Collectors.toUnmodifiableList());
-        return root.toImageObject(filtered);
+        return root.toImageObject(elementsAt(ObjectType.IMAGE, x, y, epsilon));
     }
 
     /**
@@ -130,12 +130,7 @@ class PageClientImpl {
     public List<FormXObjectReference> selectFormsAt(double x, double y) { return selectFormsAt(x, y, PDFDancer.DEFAULT_EPSILON); }
 
     public List<FormXObjectReference> selectFormsAt(double x, double y, double epsilon) {
-        PageSnapshot snapshot = root.getPageSnapshotCached(pageNumber, null);
-        List<ObjectRef> forms = root.collectObjectsByType(snapshot, Set.of(ObjectType.FORM_X_OBJECT));
-        List<ObjectRef> filtered = forms.stream()
-                .filter(ref -> root.containsPoint(ref, x, y, epsilon))
-                .collect(Collectors.toUnmodifiableList());
-        return root.toFormXObject(filtered);
+        return root.toFormXObject(elementsAt(ObjectType.FORM_X_OBJECT, x, y, epsilon));
     }
 
     /**
@@ -168,12 +163,7 @@ class PageClientImpl {
     public List<FormFieldReference> selectFormFieldsAt(double x, double y) { return selectFormFieldsAt(x, y, PDFDancer.DEFAULT_EPSILON); }
 
     public List<FormFieldReference> selectFormFieldsAt(double x, double y, double epsilon) {
-        List<FormFieldRef> formFields = root.collectFormFieldRefsFromPage(pageNumber);
-        return root.toFormFieldObject(
-                formFields.stream()
-                        .filter(ref -> root.containsPoint(ref, x, y, epsilon))
-                        .collect(Collectors.toUnmodifiableList())
-        );
+        return root.toFormFieldObject(root.formFieldIndex(pageNumber).containing(x, y, epsilon));
     }
 
     /**
@@ -199,12 +189,7 @@ class PageClientImpl {
      * @return list of form fields with the given name on this page
      */
     public List<FormFieldReference> selectFormFieldsByName(String name) {
-        List<FormFieldRef> formFields = root.collectFormFieldRefsFromPage(pageNumber);
-        return root.toFormFieldObject(
-                formFields.stream()
-                        .filter(ref -> Objects.equals(ref.getName(), name))
-                        .collect(Collectors.toUnmodifiableList())
-        );
+        return root.toFormFieldObject(root.pageFormFieldsByName(pageNumber).getOrDefault(name, List.of()));
     }
 
     /**
@@ -217,6 +202,15 @@ class PageClientImpl {
         return formFields.isEmpty() ? Optional.empty() : Optional.of(formFields.get(0));
     }
 
+    /**
+     * Selects the element on this page with the given internal id.
+     * @param internalId the element's internal id
+     * @return Optional containing the element, or empty if this page has no element with that id
+     */
+    public Optional<ObjectRef> selectById(String internalId) {
+        return Optional.ofNullable(root.pageElementsById(pageNumber).get(internalId));
+    }
+
     public BezierBuilder newBezier() { return new BezierBuilder(root, pageNumber); }
 
     public PathBuilder newPath() { return new PathBuilder(root, pageNumber); }
@@ -235,6 +229,44 @@ class PageClientImpl {
 
     public List<ObjectRef> selectElements(String types) { return getSnapshot(types).elements(); }
 
+    /**
+     * Selects the elements of this page within a region, evaluated locally against the cached page snapshot.
+     * Only the first call for a page fetches its snapshot; further region and point queries cost no round trip.
+     * @param region area in page coordinates
+     * @param mode {@link Position.PositionMode#INTERSECT} for elements overlapping the region,
+     *             {@link Position.PositionMode#CONTAINS} for elements lying completely inside it
+     * @return elements in snapshot order; elements without a bounding rectangle are never included
+     */
+    public List<ObjectRef> selectElementsIn(BoundingRect region, Position.PositionMode mode) {
+        Objects.requireNonNull(region, "region");
+        Objects.requireNonNull(mode, "mode");
+        return root.pageElementIndex(pageNumber).within(region, mode);
+    }
+
+    public List<ImageReference> selectImagesIn(BoundingRect region, Position.PositionMode mode) {
+        return root.toImageObject(elementsIn(ObjectType.IMAGE, region, mode));
+    }
+
+    public List<PathReference> selectPathsIn(BoundingRect region, Position.PositionMode mode) {
+        return root.toPathObject(elementsIn(ObjectType.PATH, region, mode));
+    }
+
+    public List<FormXObjectReference> selectFormsIn(BoundingRect region, Position.PositionMode mode) {
+        return root.toFormXObject(elementsIn(ObjectType.FORM_X_OBJECT, region, mode));
+    }
+
+    public List<FormFieldReference> selectFormFieldsIn(BoundingRect region, Position.PositionMode mode) {
+        Objects.requireNonNull(region, "region");
+        Objects.requireNonNull(mode, "mode");
+        return root.toFormFieldObject(root.formFieldIndex(pageNumber).within(region, mode));
+    }
+
+    private List<ObjectRef> elementsIn(ObjectType type, BoundingRect region, Position.PositionMode mode) {
+        return selectElementsIn(region, mode).stream()
+                .filter(ref -> ref.getType() == type)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
     public boolean moveTo(int targetPageNumber) {
         boolean moved = root.movePage(pageNumber, targetPageNumber);
         if (moved) pageNumber = targetPageNumber;
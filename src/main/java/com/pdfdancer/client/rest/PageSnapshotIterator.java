@@ -0,0 +1,105 @@
+package com.pdfdancer.client.rest;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.pdfdancer.common.response.PageSnapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the {@code pages} array of a document snapshot response one page at a time, straight from the
+ * response body. Other top-level properties are skipped. Closes the body once the array is exhausted or
+ * {@link #close()} is called.
+ */
+final class PageSnapshotIterator implements Iterator<PageSnapshot>, AutoCloseable {
+
+    private final PdfDancerHttpClient client;
+    private final InputStream body;
+    private final JsonParser parser;
+    private PageSnapshot next;
+    private boolean finished;
+
+    PageSnapshotIterator(PdfDancerHttpClient client, InputStream body) {
+        this.client = client;
+        this.body = body;
+        try {
+            this.parser = client.createParser(body);
+            seekPages();
+        } catch (IOException e) {
+            close();
+            throw parseFailure(e);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private void seekPages() throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new PdfDancerClientException("Document snapshot response is not a JSON object");
+        }
+        for (JsonToken t = parser.nextToken(); t == JsonToken.FIELD_NAME; t = parser.nextToken()) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("pages".equals(name) && value == JsonToken.START_ARRAY) {
+                return;
+            }
+            parser.skipChildren();
+        }
+        finished = true;
+        close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            JsonToken t = parser.nextToken();
+            if (t == JsonToken.START_OBJECT) {
+                next = client.readValueFixingTypes(parser, PageSnapshot.class);
+                return true;
+            }
+            finished = true;
+            close();
+            return false;
+        } catch (IOException e) {
+            close();
+            throw parseFailure(e);
+        }
+    }
+
+    @Override
+    public PageSnapshot next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        PageSnapshot page = next;
+        next = null;
+        return page;
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        try {
+            if (parser != null) {
+                parser.close();
+            }
+            body.close();
+        } catch (IOException ignored) {
+            // The connection is being discarded either way.
+        }
+    }
+
+    private static PdfDancerClientException parseFailure(IOException e) {
+        return new PdfDancerClientException("Failed to parse document snapshot stream", e);
+    }
+}
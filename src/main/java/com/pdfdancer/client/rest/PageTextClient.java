@@ -7,6 +7,7 @@ import com.pdfdancer.common.request.TextStyleRequest;
 import com.pdfdancer.common.response.TextEditResponse;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class PageTextClient {
     private final PDFDancer root;
@@ -21,15 +22,31 @@ public class PageTextClient {
         return root.replaceText(request.withPages(List.of(pageNumber)));
     }
 
+    public CompletableFuture<TextEditResponse> replaceAsync(TextReplaceRequest request) {
+        return root.replaceTextAsync(request.withPages(List.of(pageNumber)));
+    }
+
     public TextEditResponse delete(TextDeleteRequest request) {
         return root.deleteText(request.withPages(List.of(pageNumber)));
     }
 
+    public CompletableFuture<TextEditResponse> deleteAsync(TextDeleteRequest request) {
+        return root.deleteTextAsync(request.withPages(List.of(pageNumber)));
+    }
+
     public TextEditResponse insert(TextInsertRequest request) {
         return root.insertText(request.withPages(List.of(pageNumber)));
     }
 
+    public CompletableFuture<TextEditResponse> insertAsync(TextInsertRequest request) {
+        return root.insertTextAsync(request.withPages(List.of(pageNumber)));
+    }
+
     public TextEditResponse style(TextStyleRequest request) {
         return root.styleText(request.withPages(List.of(pageNumber)));
     }
+
+    public CompletableFuture<TextEditResponse> styleAsync(TextStyleRequest request) {
+        return root.styleTextAsync(request.withPages(List.of(pageNumber)));
+    }
 }
@@ -0,0 +1,181 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.response.PageSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs independent per-page reads concurrently instead of one page after another on the caller thread.
+ * <p>
+ * Each call fans its page tasks out with at most {@link #maxConcurrency(int)} running at once and blocks until
+ * all of them finished. On Java 21 and later every task gets its own virtual thread; older runtimes use a
+ * platform thread pool sized to the concurrency cap, created for the call and shut down after it. Results
+ * come back in page order. If any page fails, the exception of the first failing page in page order is
+ * rethrown once the others completed.
+ * </p>
+ * <p>
+ * Reads go through the session's snapshot cache, so snapshots fetched here serve later selections. Only use
+ * this for reads; mutations are batched with {@link PDFDancer#batch()}.
+ * </p>
+ * <pre>{@code
+ * List<PageSnapshot> snapshots = pdf.parallel().maxConcurrency(16).pageSnapshots();
+ * List<List<ImageReference>> images = pdf.parallel().mapPages(PDFDancer.PageClient::selectImages);
+ * }</pre>
+ */
+public final class ParallelPages {
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final PDFDancer client;
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+    private Executor executor;
+
+    ParallelPages(PDFDancer client) {
+        this.client = client;
+    }
+
+    /**
+     * Limits how many page tasks may run at once.
+     *
+     * @param maxConcurrency maximum number of concurrent tasks, at least 1
+     * @return this instance
+     */
+    public ParallelPages maxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be >= 1");
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Runs page tasks on a caller-managed executor instead of virtual threads or a per-call pool. The
+     * concurrency cap still applies; tasks waiting for a slot hold their executor thread.
+     *
+     * @param executor the executor, or {@code null} to restore the default
+     * @return this instance
+     */
+    public ParallelPages executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * @return whether page tasks run on virtual threads when no executor is set
+     */
+    public static boolean usesVirtualThreads() {
+        return VirtualThreads.isSupported();
+    }
+
+    /**
+     * Applies {@code task} to every page of the document concurrently.
+     *
+     * @param task the read to perform for each page
+     * @return one result per page, in page order
+     */
+    public <R> List<R> mapPages(Function<? super PDFDancer.PageClient, ? extends R> task) {
+        return map(client.pages(), task);
+    }
+
+    /**
+     * Applies {@code task} to the given pages concurrently.
+     *
+     * @param pageNumbers 1-based page numbers
+     * @param task        the read to perform for each page
+     * @return one result per page number, in the given order
+     */
+    public <R> List<R> mapPages(List<Integer> pageNumbers, Function<? super PDFDancer.PageClient, ? extends R> task) {
+        List<PDFDancer.PageClient> pages = new ArrayList<>(pageNumbers.size());
+        for (int pageNumber : pageNumbers) {
+            pages.add(client.page(pageNumber));
+        }
+        return map(pages, task);
+    }
+
+    public List<PageSnapshot> pageSnapshots() {
+        return mapPages(PDFDancer.PageClient::getSnapshot);
+    }
+
+    public List<PageSnapshot> pageSnapshots(String types) {
+        return mapPages(page -> page.getSnapshot(types));
+    }
+
+    public <T extends ObjectRef> List<TypedPageSnapshot<T>> typedPageSnapshots(Class<T> elementClass, String types) {
+        return mapPages(page -> client.getTypedPageSnapshot(page.getPageNumber(), elementClass, types));
+    }
+
+    public List<List<PathGroupReference>> pathGroups() {
+        return mapPages(PDFDancer.PageClient::getPathGroups);
+    }
+
+    private <P, R> List<R> map(List<P> inputs, Function<? super P, ? extends R> task) {
+        if (inputs.isEmpty()) {
+            return List.of();
+        }
+        ExecutorService owned = executor == null ? newExecutor(Math.min(maxConcurrency, inputs.size())) : null;
+        Executor target = owned != null ? owned : executor;
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<CompletableFuture<R>> futures = new ArrayList<>(inputs.size());
+        try {
+            for (P input : inputs) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        return task.apply(input);
+                    } finally {
+                        permits.release();
+                    }
+                }, target));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).exceptionally(error -> null).join();
+        } finally {
+            if (owned != null) {
+                owned.shutdown();
+            }
+        }
+
+        List<R> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new PdfDancerClientException("Parallel page task failed", cause);
+            }
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    private static ExecutorService newExecutor(int threads) {
+        return VirtualThreads.newPerTaskExecutor()
+                .orElseGet(() -> Executors.newFixedThreadPool(threads, platformThreads()));
+    }
+
+    private static ThreadFactory platformThreads() {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "pdfdancer-parallel-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.pdfdancer.client.rest;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -11,18 +12,31 @@ import com.pdfdancer.client.http.MultipartBody;
 import com.pdfdancer.client.http.MutableHttpRequest;
 import com.pdfdancer.common.model.ErrorResponse;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static java.net.http.HttpRequest.BodyPublishers;
 import static java.net.http.HttpResponse.BodyHandlers;
@@ -39,9 +53,9 @@ import static java.net.http.HttpResponse.BodyHandlers;
  */
 public final class PdfDancerHttpClient {
 
-    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
     private static final String DEFAULT_API_VERSION = "2";
     private static final String DEFAULT_API_PATH_PREFIX = "/v2";
+    private static final String GZIP = "gzip";
     private static final String CLIENT_VERSION = loadClientVersion();
 
     private static String loadClientVersion() {
@@ -61,108 +75,162 @@ public final class PdfDancerHttpClient {
     private final URI baseUrl;
     private final ObjectMapper objectMapper;
     private final RetryConfig retryConfig;
+    private final CompressionConfig compression;
+    private final TimeoutConfig timeouts;
+    private final ConcurrencyLimiter limiter;
+    private final RateLimitGate rateLimits;
+    private final boolean streamingTypeResolution;
+    private final JsonCodecs codecs;
 
-    private PdfDancerHttpClient(HttpClient delegate, URI baseUrl, ObjectMapper objectMapper, RetryConfig retryConfig) {
+    private PdfDancerHttpClient(HttpClient delegate, URI baseUrl, JsonCodecs codecs, RetryConfig retryConfig) {
+        this(delegate, baseUrl, codecs, retryConfig, null);
+    }
+
+    private PdfDancerHttpClient(HttpClient delegate, URI baseUrl, JsonCodecs codecs, RetryConfig retryConfig,
+                                CompressionConfig compression) {
+        this(delegate, baseUrl, codecs, retryConfig, compression, null, null, null);
+    }
+
+    private PdfDancerHttpClient(HttpClient delegate, URI baseUrl, JsonCodecs codecs, RetryConfig retryConfig,
+                                CompressionConfig compression, TimeoutConfig timeouts, ConcurrencyLimiter limiter,
+                                RateLimitGate rateLimits) {
         this.delegate = delegate;
         this.baseUrl = baseUrl;
-        this.objectMapper = objectMapper;
+        this.objectMapper = codecs.mapper();
+        this.streamingTypeResolution = objectMapper.getRegisteredModuleIds().contains(ObjectRefTypeModule.ID);
+        this.codecs = codecs;
         this.retryConfig = retryConfig != null ? retryConfig : RetryConfig.defaultConfig();
+        this.compression = compression != null ? compression : CompressionConfig.disabled();
+        this.timeouts = timeouts != null ? timeouts : TimeoutConfig.defaultConfig();
+        this.limiter = limiter != null ? limiter : ConcurrencyLimiter.UNLIMITED;
+        this.rateLimits = rateLimits != null ? rateLimits : RateLimitGate.create(null);
+    }
+
+    /**
+     * Creates a new builder for a client with custom protocol, executor or timeout settings.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
     }
 
+    /**
+     * Creates a client on the process-wide {@link PdfDancerTransport#shared() shared transport}, so that
+     * connections are reused across clients and sessions.
+     */
     public static PdfDancerHttpClient createDefault(URI baseUrl) {
-        HttpClient client = HttpClient.newBuilder()
-                .connectTimeout(DEFAULT_TIMEOUT)
-                .build();
-        return new PdfDancerHttpClient(client, baseUrl, createObjectMapper(), null);
+        return PdfDancerTransport.shared().client(baseUrl);
     }
 
     public static PdfDancerHttpClient createDefault(URI baseUrl, RetryConfig retryConfig) {
-        HttpClient client = HttpClient.newBuilder()
-                .connectTimeout(DEFAULT_TIMEOUT)
-                .build();
-        return new PdfDancerHttpClient(client, baseUrl, createObjectMapper(), retryConfig);
+        return PdfDancerTransport.shared().client(baseUrl, retryConfig);
     }
 
     public static PdfDancerHttpClient create(HttpClient httpClient, URI baseUrl) {
-        return new PdfDancerHttpClient(httpClient, baseUrl, createObjectMapper(), null);
+        return new PdfDancerHttpClient(httpClient, baseUrl, DefaultCodecs.INSTANCE, null);
     }
 
     public static PdfDancerHttpClient create(HttpClient httpClient, URI baseUrl, ObjectMapper mapper) {
-        return new PdfDancerHttpClient(httpClient, baseUrl, mapper == null ? createObjectMapper() : mapper, null);
+        return new PdfDancerHttpClient(httpClient, baseUrl, codecsFor(mapper), null);
     }
 
     public static PdfDancerHttpClient create(HttpClient httpClient, URI baseUrl, ObjectMapper mapper, RetryConfig retryConfig) {
-        return new PdfDancerHttpClient(httpClient, baseUrl, mapper == null ? createObjectMapper() : mapper, retryConfig);
+        return new PdfDancerHttpClient(httpClient, baseUrl, codecsFor(mapper), retryConfig);
+    }
+
+    /**
+     * Creates a client that negotiates HTTP compression as described by {@code compression}.
+     * A {@code null} mapper, retry or compression configuration selects the respective default.
+     */
+    public static PdfDancerHttpClient create(HttpClient httpClient, URI baseUrl, ObjectMapper mapper, RetryConfig retryConfig,
+                                             CompressionConfig compression) {
+        return new PdfDancerHttpClient(httpClient, baseUrl, codecsFor(mapper), retryConfig, compression);
+    }
+
+    static PdfDancerHttpClient create(HttpClient httpClient, URI baseUrl, JsonCodecs codecs, RetryConfig retryConfig,
+                                      CompressionConfig compression, ConcurrencyLimiter limiter,
+                                      RateLimitGate rateLimits) {
+        return new PdfDancerHttpClient(httpClient, baseUrl, codecs, retryConfig, compression, null, limiter, rateLimits);
+    }
+
+    static JsonCodecs codecsFor(ObjectMapper mapper) {
+        return mapper == null ? DefaultCodecs.INSTANCE : new JsonCodecs(mapper).warmUp();
+    }
+
+    /**
+     * The default mapper is never reconfigured after creation, so all clients using it share one mapper and
+     * one set of resolved readers and writers, warmed up once per class loader.
+     */
+    private static final class DefaultCodecs {
+        static final JsonCodecs INSTANCE = new JsonCodecs(createObjectMapper()).warmUp();
     }
 
     private static ObjectMapper createObjectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
         mapper.registerModule(new ParameterNamesModule());
+        mapper.registerModule(new ObjectRefTypeModule());
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         return mapper;
     }
 
+    /**
+     * @return the state of this client's adaptive concurrency limit; unlimited unless configured through
+     * {@link Builder#concurrencyLimit} or the transport
+     */
+    public ConcurrencyLimitStats getConcurrencyLimitStats() {
+        return limiter.stats();
+    }
+
     public Blocking toBlocking() {
         return new Blocking();
     }
 
+    public Async toAsync() {
+        return new Async();
+    }
+
     private <T> T send(MutableHttpRequest<?> request, Class<T> responseType, Argument<T> argument) {
         HttpRequest httpRequest = toJavaRequest(request);
+        Deadline deadline = Deadline.start(timeouts.getOperationDeadline());
 
         int maxAttempts = retryConfig.getMaxAttempts();
         RuntimeException lastException = null;
 
         for (int attempt = 1; attempt <= maxAttempts; attempt++) {
             try {
-                HttpResponse<byte[]> response = delegate.send(httpRequest, BodyHandlers.ofByteArray());
+                HttpResponse<byte[]> response = sendLimited(httpRequest, deadline, BodyHandlers.ofByteArray());
 
                 int status = response.statusCode();
                 if (status < 200 || status >= 300) {
                     RuntimeException error = translateError(response);
 
                     // Check if we should retry based on status code
-                    if (attempt < maxAttempts &&
-                        error instanceof HttpClientException &&
-                        retryConfig.isRetryableStatusCode(status)) {
-                        lastException = error;
-                        sleep(calculateDelay(attempt, status, response));
-                        continue;
+                    if (isRetryableResponse(attempt, status, error)) {
+                        Duration delay = calculateDelay(attempt, status, response);
+                        if (deadline.allows(delay)) {
+                            lastException = error;
+                            sleep(delay);
+                            continue;
+                        }
                     }
 
                     throw error;
                 }
 
                 // Success - parse and return response
-                byte[] body = response.body();
-                if (responseType != null) {
-                    return decode(body, responseType);
-                }
-
-                JavaType javaType = toJavaType(argument);
-                try {
-                    if (body == null || body.length == 0) {
-                        return null;
-                    }
-                    @SuppressWarnings("unchecked")
-                    T value = (T) readValueFixingTypes(body, javaType);
-                    return value;
-                } catch (IOException e) {
-                    String preview = new String(body, StandardCharsets.UTF_8);
-                    throw new PdfDancerClientException("Failed to parse response body: " + preview, e);
-                }
+                return decodeResponse(content(response), response.headers(), responseType, argument);
 
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new PdfDancerClientException("HTTP request interrupted", e);
             } catch (IOException e) {
-                boolean retryTransportError = e instanceof java.net.http.HttpTimeoutException
-                        ? retryConfig.isRetryOnTimeout()
-                        : retryConfig.isRetryOnConnectionError();
-                if (attempt < maxAttempts && retryTransportError) {
+                Duration delay = calculateDelay(attempt, 0, null);
+                if (attempt < maxAttempts && isRetryableTransportError(e) && deadline.allows(delay)) {
                     lastException = new PdfDancerClientException("HTTP request failed", e);
-                    sleep(calculateDelay(attempt, 0, null));
+                    sleep(delay);
                     continue;
                 }
                 throw new PdfDancerClientException("HTTP request failed", e);
@@ -184,7 +252,230 @@ public final class PdfDancerHttpClient {
         throw new PdfDancerClientException("HTTP request failed after " + maxAttempts + " attempts");
     }
 
-    private Duration calculateDelay(int attempt, int statusCode, HttpResponse<byte[]> response) {
+    /**
+     * Sends the request and hands back the successful response body as an unbuffered stream.
+     * Error responses are drained and translated exactly like {@link #send}, including retries;
+     * the caller owns the returned stream and must close it.
+     */
+    private InputStream sendForStream(MutableHttpRequest<?> request) {
+        HttpRequest httpRequest = toJavaRequest(request);
+        Deadline deadline = Deadline.start(timeouts.getOperationDeadline());
+
+        int maxAttempts = retryConfig.getMaxAttempts();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                HttpResponse<InputStream> response = sendLimited(httpRequest, deadline, BodyHandlers.ofInputStream());
+
+                int status = response.statusCode();
+                if (status >= 200 && status < 300) {
+                    return contentStream(response);
+                }
+
+                byte[] errorBody;
+                try (InputStream in = contentStream(response)) {
+                    errorBody = in.readAllBytes();
+                }
+                RuntimeException error = translateError(status, response.headers(), errorBody);
+                if (isRetryableResponse(attempt, status, error)) {
+                    Duration delay = calculateDelay(attempt, status, response);
+                    if (deadline.allows(delay)) {
+                        sleep(delay);
+                        continue;
+                    }
+                }
+                throw error;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PdfDancerClientException("HTTP request interrupted", e);
+            } catch (IOException e) {
+                Duration delay = calculateDelay(attempt, 0, null);
+                if (attempt < maxAttempts && isRetryableTransportError(e) && deadline.allows(delay)) {
+                    sleep(delay);
+                    continue;
+                }
+                throw new PdfDancerClientException("HTTP request failed", e);
+            }
+        }
+
+        throw new PdfDancerClientException("HTTP request failed after " + maxAttempts + " attempts");
+    }
+
+    /**
+     * Sends one attempt within the rate limit and the concurrency limit. The slot is held until the response
+     * headers arrive; waiting for the rate limit and for the slot counts against the operation deadline.
+     */
+    private <B> HttpResponse<B> sendLimited(HttpRequest httpRequest, Deadline deadline,
+                                            HttpResponse.BodyHandler<B> handler) throws IOException, InterruptedException {
+        String gateKey = RateLimitGate.key(baseUrl, httpRequest);
+        Duration wait = rateLimits.reserve(gateKey);
+        if (!wait.isZero()) {
+            if (!deadline.allows(wait)) {
+                throw rateLimitHold(wait);
+            }
+            sleep(wait);
+        }
+        ConcurrencyLimiter.Permit permit = limiter.acquire();
+        try {
+            HttpResponse<B> response = delegate.send(deadline.bound(httpRequest), handler);
+            permit.onResponse(response.statusCode());
+            observeRetryAfter(gateKey, response);
+            return response;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            permit.onFailure(e);
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> sendAsync(MutableHttpRequest<?> request, Class<T> responseType, Argument<T> argument) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = toJavaRequest(request);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return attemptAsync(httpRequest, responseType, argument, Deadline.start(timeouts.getOperationDeadline()), 1);
+    }
+
+    /**
+     * Performs one asynchronous attempt. Failed attempts that qualify for a retry are re-scheduled
+     * on a delayed executor instead of sleeping, so no thread is parked during back-off.
+     */
+    private <T> CompletableFuture<T> attemptAsync(HttpRequest httpRequest, Class<T> responseType,
+                                                  Argument<T> argument, Deadline deadline, int attempt) {
+        String gateKey = RateLimitGate.key(baseUrl, httpRequest);
+        Duration wait = rateLimits.reserve(gateKey);
+        CompletableFuture<Void> gate;
+        if (wait.isZero()) {
+            gate = CompletableFuture.completedFuture(null);
+        } else if (deadline.allows(wait)) {
+            gate = CompletableFuture.runAsync(() -> { }, delayed(wait));
+        } else {
+            gate = CompletableFuture.failedFuture(rateLimitHold(wait));
+        }
+        return gate.thenCompose(ignored -> limiter.acquireAsync())
+                .thenCompose(permit -> sendLimitedAsync(httpRequest, gateKey, deadline, permit))
+                .handle((response, failure) -> {
+                    if (failure != null) {
+                        Throwable cause = unwrapCompletion(failure);
+                        if (!(cause instanceof IOException)) {
+                            return CompletableFuture.<T>failedFuture(cause);
+                        }
+                        Duration delay = calculateDelay(attempt, 0, null);
+                        if (attempt < retryConfig.getMaxAttempts() && isRetryableTransportError((IOException) cause)
+                                && deadline.allows(delay)) {
+                            return retryAsync(httpRequest, responseType, argument, deadline, attempt, delay);
+                        }
+                        return CompletableFuture.<T>failedFuture(new PdfDancerClientException("HTTP request failed", cause));
+                    }
+
+                    int status = response.statusCode();
+                    if (status < 200 || status >= 300) {
+                        RuntimeException error = translateError(response);
+                        Duration delay = calculateDelay(attempt, status, response);
+                        if (isRetryableResponse(attempt, status, error) && deadline.allows(delay)) {
+                            return retryAsync(httpRequest, responseType, argument, deadline, attempt, delay);
+                        }
+                        return CompletableFuture.<T>failedFuture(error);
+                    }
+
+                    try {
+                        return CompletableFuture.completedFuture(decodeResponse(content(response), response.headers(), responseType, argument));
+                    } catch (RuntimeException e) {
+                        return CompletableFuture.<T>failedFuture(e);
+                    }
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> sendLimitedAsync(HttpRequest httpRequest, String gateKey,
+                                                                     Deadline deadline, ConcurrencyLimiter.Permit permit) {
+        CompletableFuture<HttpResponse<byte[]>> sent;
+        try {
+            sent = delegate.sendAsync(deadline.bound(httpRequest), BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            permit.onFailure(e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return sent.whenComplete((response, failure) -> {
+            if (failure != null) {
+                permit.onFailure(unwrapCompletion(failure));
+            } else {
+                permit.onResponse(response.statusCode());
+                observeRetryAfter(gateKey, response);
+            }
+        });
+    }
+
+    private <T> CompletableFuture<T> retryAsync(HttpRequest httpRequest, Class<T> responseType,
+                                                Argument<T> argument, Deadline deadline, int attempt, Duration delay) {
+        return CompletableFuture.runAsync(() -> { }, delayed(delay))
+                .thenCompose(ignored -> attemptAsync(httpRequest, responseType, argument, deadline, attempt + 1));
+    }
+
+    private Executor delayed(Duration delay) {
+        Executor executor = delegate.executor().orElse(ForkJoinPool.commonPool());
+        return CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS, executor);
+    }
+
+    /**
+     * Opens a rate-limit window for all requests sharing the gate when an error response carries
+     * {@code Retry-After}.
+     */
+    private void observeRetryAfter(String gateKey, HttpResponse<?> response) {
+        int status = response.statusCode();
+        if ((status >= 200 && status < 300) || !rateLimits.isHonorRetryAfter()) {
+            return;
+        }
+        response.headers().firstValue("Retry-After")
+                .map(this::parseRetryAfter)
+                .ifPresent(retryAfter -> rateLimits.hold(gateKey, retryAfter));
+    }
+
+    private RateLimitException rateLimitHold(Duration wait) {
+        return new RateLimitException("Rate limited: requests are held for another " + wait
+                + ", beyond the operation deadline of " + timeouts.getOperationDeadline(), wait);
+    }
+
+    private static Throwable unwrapCompletion(Throwable failure) {
+        Throwable current = failure;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    private boolean isRetryableResponse(int attempt, int status, RuntimeException error) {
+        return attempt < retryConfig.getMaxAttempts()
+                && error instanceof HttpClientException
+                && retryConfig.isRetryableStatusCode(status);
+    }
+
+    private boolean isRetryableTransportError(IOException e) {
+        return e instanceof java.net.http.HttpTimeoutException
+                ? retryConfig.isRetryOnTimeout()
+                : retryConfig.isRetryOnConnectionError();
+    }
+
+    private <T> T decodeResponse(byte[] body, HttpHeaders headers, Class<T> responseType, Argument<T> argument) {
+        if (responseType != null) {
+            return decode(body, headers, responseType);
+        }
+
+        try {
+            if (body == null || body.length == 0) {
+                return null;
+            }
+            @SuppressWarnings("unchecked")
+            T value = (T) readValueFixingTypes(body, forContentType(codecs.reader(argument), headers));
+            return value;
+        } catch (IOException e) {
+            String preview = new String(body, StandardCharsets.UTF_8);
+            throw new PdfDancerClientException("Failed to parse response body: " + preview, e);
+        }
+    }
+
+    private Duration calculateDelay(int attempt, int statusCode, HttpResponse<?> response) {
         // For 429 responses, check for Retry-After header
         if (statusCode == 429 && response != null) {
             Optional<String> retryAfter = response.headers().firstValue("Retry-After");
@@ -264,13 +555,66 @@ public final class PdfDancerHttpClient {
         }
     }
 
+    /**
+     * Time left for one operation across all its attempts, see {@link TimeoutConfig#getOperationDeadline()}.
+     */
+    private static final class Deadline {
+        private static final Deadline NONE = new Deadline(null, 0L);
+
+        private final Duration budget;
+        private final long expiresAtNanos;
+
+        private Deadline(Duration budget, long expiresAtNanos) {
+            this.budget = budget;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        static Deadline start(Duration budget) {
+            return budget == null ? NONE : new Deadline(budget, System.nanoTime() + budget.toNanos());
+        }
+
+        private Duration remaining() {
+            return Duration.ofNanos(expiresAtNanos - System.nanoTime());
+        }
+
+        /**
+         * Determines if there is time left for another attempt after waiting {@code delay}.
+         */
+        boolean allows(Duration delay) {
+            return budget == null || remaining().compareTo(delay) > 0;
+        }
+
+        /**
+         * Shortens the timeout of {@code request} to the time left.
+         *
+         * @throws PdfDancerClientException if the deadline has passed
+         */
+        HttpRequest bound(HttpRequest request) {
+            if (budget == null) {
+                return request;
+            }
+            Duration remaining = remaining();
+            if (remaining.isNegative() || remaining.isZero()) {
+                throw new PdfDancerClientException("Operation deadline of " + budget + " exceeded");
+            }
+            if (request.timeout().map(timeout -> timeout.compareTo(remaining) <= 0).orElse(false)) {
+                return request;
+            }
+            return HttpRequest.newBuilder(request, (name, value) -> true)
+                    .timeout(remaining)
+                    .build();
+        }
+    }
+
     private HttpRequest toJavaRequest(MutableHttpRequest<?> request) {
         URI target = baseUrl.resolve(versionedPath(request.path()));
-        HttpRequest.Builder builder = HttpRequest.newBuilder(target)
-                .timeout(DEFAULT_TIMEOUT);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(target);
 
         builder.header("X-API-VERSION", DEFAULT_API_VERSION);
         builder.header("X-PDFDancer-Client", CLIENT_VERSION);
+        if (compression.isDecompressResponses()) {
+            builder.header("Accept-Encoding", GZIP);
+        }
 
         request.headers().forEach(builder::header);
 
@@ -278,16 +622,14 @@ public final class PdfDancerHttpClient {
         MediaType declaredContentType = request.contentType();
 
         if (body == null) {
-            builder.method(request.method(), BodyPublishers.noBody());
-            return builder.build();
+            return build(builder, request, BodyPublishers.noBody());
         }
 
         if (body instanceof byte[]) {
             if (declaredContentType != null) {
                 builder.header("Content-Type", declaredContentType.value());
             }
-            builder.method(request.method(), BodyPublishers.ofByteArray((byte[]) body));
-            return builder.build();
+            return build(builder, request, BodyPublishers.ofByteArray((byte[]) body));
         }
 
         if (body instanceof MultipartBody) {
@@ -295,8 +637,7 @@ public final class PdfDancerHttpClient {
             String boundary = multipart.boundary();
             String contentType = "multipart/form-data; boundary=" + boundary;
             builder.header("Content-Type", contentType);
-            builder.method(request.method(), multipartPublisher(multipart));
-            return builder.build();
+            return build(builder, request, multipartPublisher(multipart));
         }
 
         byte[] json = writeJson(body);
@@ -304,8 +645,95 @@ public final class PdfDancerHttpClient {
                 ? declaredContentType.value()
                 : MediaType.APPLICATION_JSON_TYPE.value();
         builder.header("Content-Type", contentType);
-        builder.method(request.method(), BodyPublishers.ofByteArray(json));
-        return builder.build();
+        if (compression.shouldCompress(json.length)) {
+            json = gzip(json);
+            builder.header("Content-Encoding", GZIP);
+        }
+        return build(builder, request, BodyPublishers.ofByteArray(json));
+    }
+
+    /**
+     * Attaches the body and the request timeout, which depends on the endpoint and, for bodies of known
+     * length, on the body size.
+     */
+    private HttpRequest build(HttpRequest.Builder builder, MutableHttpRequest<?> request,
+                              HttpRequest.BodyPublisher publisher) {
+        return builder.method(request.method(), publisher)
+                .timeout(timeouts.timeoutFor(request.method(), unversionedPath(request.path()), publisher.contentLength()))
+                .build();
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new PdfDancerClientException("Failed to compress request body", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns the response body, inflating it if the server gzip-encoded it.
+     */
+    private static byte[] content(HttpResponse<byte[]> response) {
+        byte[] body = response.body();
+        if (!isGzipEncoded(response.headers()) || body == null || body.length == 0) {
+            return body;
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body), 8192)) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new PdfDancerClientException("Failed to decompress response body", e);
+        }
+    }
+
+    /**
+     * Returns the response body stream, inflating it while it is read if the server gzip-encoded it.
+     */
+    private static InputStream contentStream(HttpResponse<InputStream> response) throws IOException {
+        InputStream body = response.body();
+        if (!isGzipEncoded(response.headers())
+                || response.headers().firstValueAsLong("Content-Length").orElse(-1L) == 0) {
+            return body;
+        }
+        try {
+            return new GZIPInputStream(body, 8192);
+        } catch (IOException e) {
+            body.close();
+            throw e;
+        }
+    }
+
+    private static boolean isGzipEncoded(HttpHeaders headers) {
+        return headers.firstValue("Content-Encoding")
+                .map(value -> value.trim().equalsIgnoreCase(GZIP))
+                .orElse(false);
+    }
+
+    /**
+     * Returns the path relative to the API version prefix, without query and fragment. Plain string handling,
+     * since endpoint patterns such as {@code /session/{id}/pdf} are not valid URIs.
+     */
+    static String unversionedPath(String path) {
+        int end = path.length();
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            end = query;
+        }
+        int fragment = path.indexOf('#');
+        if (fragment >= 0 && fragment < end) {
+            end = fragment;
+        }
+        String rawPath = path.substring(0, end);
+        if (!rawPath.startsWith("/")) {
+            rawPath = "/" + rawPath;
+        }
+        return hasApiPathPrefix(rawPath) ? rawPath.substring(DEFAULT_API_PATH_PREFIX.length()) : rawPath;
+    }
+
+    private static boolean hasApiPathPrefix(String rawPath) {
+        return rawPath.equals(DEFAULT_API_PATH_PREFIX) || rawPath.startsWith(DEFAULT_API_PATH_PREFIX + "/");
     }
 
     private static String versionedPath(String path) {
@@ -321,7 +749,7 @@ public final class PdfDancerHttpClient {
         if (!rawPath.startsWith("/")) {
             rawPath = "/" + rawPath;
         }
-        if (!rawPath.equals(DEFAULT_API_PATH_PREFIX) && !rawPath.startsWith(DEFAULT_API_PATH_PREFIX + "/")) {
+        if (!hasApiPathPrefix(rawPath)) {
             rawPath = DEFAULT_API_PATH_PREFIX + rawPath;
         }
 
@@ -335,16 +763,19 @@ public final class PdfDancerHttpClient {
         return result.toString();
     }
 
-    private java.net.http.HttpRequest.BodyPublisher multipartPublisher(MultipartBody multipart) {
-        List<byte[]> byteArrays = new ArrayList<>();
+    /**
+     * Builds the multipart body as a concatenation of publishers. In-memory parts are copied as-is,
+     * file parts are read through {@link BodyPublishers#ofFile} and stream parts through
+     * {@link BodyPublishers#ofInputStream}, so large uploads never need to be held on the heap.
+     */
+    java.net.http.HttpRequest.BodyPublisher multipartPublisher(MultipartBody multipart) {
+        List<java.net.http.HttpRequest.BodyPublisher> publishers = new ArrayList<>();
         String boundary = multipart.boundary();
-        byte[] separator = ("--" + boundary + "\r\n").getBytes(StandardCharsets.UTF_8);
         byte[] closing = ("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
 
         for (MultipartBody.Part part : multipart.parts()) {
-            byteArrays.add(separator);
-
-            StringBuilder headers = new StringBuilder("Content-Disposition: form-data; name=\"")
+            StringBuilder headers = new StringBuilder("--").append(boundary).append("\r\n")
+                    .append("Content-Disposition: form-data; name=\"")
                     .append(part.name())
                     .append("\"");
             if (part.fileName() != null) {
@@ -352,18 +783,40 @@ public final class PdfDancerHttpClient {
             }
             headers.append("\r\nContent-Type: ").append(part.contentType().value()).append("\r\n\r\n");
 
-            byteArrays.add(headers.toString().getBytes(StandardCharsets.UTF_8));
-            byteArrays.add(part.content());
-            byteArrays.add("\r\n".getBytes(StandardCharsets.UTF_8));
+            publishers.add(BodyPublishers.ofString(headers.toString(), StandardCharsets.UTF_8));
+            publishers.add(partPublisher(part));
+            publishers.add(BodyPublishers.ofString("\r\n", StandardCharsets.UTF_8));
+        }
+        publishers.add(BodyPublishers.ofByteArray(closing));
+        return BodyPublishers.concat(publishers.toArray(new java.net.http.HttpRequest.BodyPublisher[0]));
+    }
+
+    private java.net.http.HttpRequest.BodyPublisher partPublisher(MultipartBody.Part part) {
+        if (!part.isStreamed()) {
+            return BodyPublishers.ofByteArray(part.content());
+        }
+        if (part.file() != null) {
+            try {
+                return BodyPublishers.ofFile(part.file());
+            } catch (java.io.FileNotFoundException e) {
+                throw new PdfDancerClientException("Multipart file not found: " + part.file(), e);
+            }
         }
-        byteArrays.add(closing);
-        return BodyPublishers.ofByteArrays(byteArrays);
+        return BodyPublishers.ofInputStream(() -> {
+            try {
+                return part.openStream();
+            } catch (IOException e) {
+                throw new java.io.UncheckedIOException(e);
+            }
+        });
     }
 
     private RuntimeException translateError(HttpResponse<byte[]> response) {
-        int status = response.statusCode();
-        byte[] body = response.body();
-        Optional<ErrorResponse> error = parseError(body);
+        return translateError(response.statusCode(), response.headers(), content(response));
+    }
+
+    private RuntimeException translateError(int status, HttpHeaders headers, byte[] body) {
+        Optional<ErrorResponse> error = parseError(body, headers);
         if (status == 404 && error.isPresent()) {
             ErrorResponse err = error.get();
             if ("FontNotFoundException".equals(err.error())) {
@@ -377,7 +830,7 @@ public final class PdfDancerHttpClient {
         String message = error.map(ErrorResponse::message)
                 .orElseGet(() -> "Unexpected HTTP status: " + status);
         if (status == 429) {
-            Duration retryAfter = response.headers().firstValue("Retry-After")
+            Duration retryAfter = headers.firstValue("Retry-After")
                     .map(this::parseRetryAfter)
                     .orElse(null);
             return new RateLimitException(message, retryAfter);
@@ -385,30 +838,18 @@ public final class PdfDancerHttpClient {
         return new PdfDancerClientException(status, message);
     }
 
-    private Optional<ErrorResponse> parseError(byte[] body) {
+    private Optional<ErrorResponse> parseError(byte[] body, HttpHeaders headers) {
         if (body == null || body.length == 0) {
             return Optional.empty();
         }
         try {
-            return Optional.of(objectMapper.readValue(body, ErrorResponse.class));
+            return Optional.of(forContentType(codecs.reader(ErrorResponse.class), headers).readValue(body));
         } catch (IOException e) {
             return Optional.empty();
         }
     }
 
-    private JavaType toJavaType(Argument<?> argument) {
-        if (argument == null) {
-            return objectMapper.getTypeFactory().constructType(Object.class);
-        }
-        Class<?> rawType = argument.rawType();
-        Class<?>[] typeArguments = argument.typeArguments();
-        if (typeArguments.length == 0) {
-            return objectMapper.getTypeFactory().constructType(rawType);
-        }
-        return objectMapper.getTypeFactory().constructParametricType(rawType, typeArguments);
-    }
-
-    private <T> T decode(byte[] body, Class<T> responseType) {
+    private <T> T decode(byte[] body, HttpHeaders headers, Class<T> responseType) {
         if (responseType == Void.class || responseType == void.class) {
             return null;
         }
@@ -424,25 +865,70 @@ public final class PdfDancerHttpClient {
             return null;
         }
         try {
-            return responseType.cast(readValueFixingTypes(body, objectMapper.getTypeFactory().constructType(responseType)));
+            return responseType.cast(readValueFixingTypes(body, forContentType(codecs.reader(responseType), headers)));
         } catch (IOException e) {
             String preview = new String(body, StandardCharsets.UTF_8);
             throw new PdfDancerClientException("Failed to parse response body: " + preview, e);
         }
     }
 
-    private byte[] writeJson(Object body) {
+    /**
+     * Switches a JSON reader to Smile when the server answered a negotiated request with
+     * {@link MediaType#APPLICATION_SMILE_TYPE}; any other response is read as JSON.
+     */
+    private ObjectReader forContentType(ObjectReader reader, HttpHeaders headers) {
+        return isSmile(headers) ? codecs.smile(reader) : reader;
+    }
+
+    private static boolean isSmile(HttpHeaders headers) {
+        return headers.firstValue("Content-Type")
+                .map(value -> value.regionMatches(true, 0, MediaType.APPLICATION_SMILE_TYPE.value(), 0,
+                        MediaType.APPLICATION_SMILE_TYPE.value().length()))
+                .orElse(false);
+    }
+
+    byte[] writeJson(Object body) {
         try {
-            return objectMapper.writeValueAsBytes(body);
+            return codecs.writer(body.getClass()).writeValueAsBytes(body);
         } catch (JsonProcessingException e) {
             throw new PdfDancerClientException("Failed to serialize request body", e);
         }
     }
 
-    private Object readValueFixingTypes(byte[] body, JavaType javaType) throws IOException {
-        JsonNode node = objectMapper.readTree(body);
+    /**
+     * Binds a response body. With the default mapper this is a single streaming pass
+     * ({@link ObjectRefTypeModule} resolves the type aliases); a caller-supplied mapper without that module
+     * goes through a tree so the aliases can be copied into each other before binding.
+     */
+    Object readValueFixingTypes(byte[] body, JavaType javaType) throws IOException {
+        return readValueFixingTypes(body, codecs.reader(javaType));
+    }
+
+    private Object readValueFixingTypes(byte[] body, ObjectReader reader) throws IOException {
+        if (streamingTypeResolution) {
+            return reader.readValue(body);
+        }
+        JsonNode node = reader.readTree(body);
         ensureObjectRefType(node);
-        return objectMapper.readerFor(javaType).readValue(node);
+        return reader.readValue(node);
+    }
+
+    /**
+     * Binds the next value of {@code parser}, normalizing type aliases like {@link #readValueFixingTypes(byte[], JavaType)}.
+     * Only that value is materialized, so callers can walk large arrays one element at a time.
+     */
+    <T> T readValueFixingTypes(JsonParser parser, Class<T> type) throws IOException {
+        ObjectReader reader = codecs.reader(type);
+        if (streamingTypeResolution) {
+            return reader.readValue(parser);
+        }
+        JsonNode node = objectMapper.readTree(parser);
+        ensureObjectRefType(node);
+        return reader.readValue(node);
+    }
+
+    JsonParser createParser(InputStream in) throws IOException {
+        return objectMapper.getFactory().createParser(in);
     }
 
     private void ensureObjectRefType(JsonNode node) {
@@ -474,5 +960,268 @@ public final class PdfDancerHttpClient {
         public <T> T retrieve(MutableHttpRequest<?> request, Argument<T> argument) {
             return send(request, null, argument);
         }
+
+        /**
+         * Executes the request and returns the response body as a stream instead of buffering it.
+         * Intended for large binary payloads such as the session PDF. The caller must close the stream.
+         */
+        public InputStream stream(MutableHttpRequest<?> request) {
+            return sendForStream(request);
+        }
+    }
+
+    /**
+     * Non-blocking facade returning {@link CompletableFuture}s, built on {@link HttpClient#sendAsync}.
+     * Retries follow the same {@link RetryConfig} as {@link Blocking}, but back-off delays are
+     * scheduled rather than slept, so no caller thread is held while a request is in flight.
+     */
+    public final class Async {
+        public <T> CompletableFuture<T> retrieve(MutableHttpRequest<?> request, Class<T> responseType) {
+            return sendAsync(request, responseType, null);
+        }
+
+        public <T> CompletableFuture<T> retrieve(MutableHttpRequest<?> request, Argument<T> argument) {
+            return sendAsync(request, null, argument);
+        }
+    }
+
+    /**
+     * Builder for clients with custom protocol, executor or timeout settings.
+     * <p>
+     * Without an explicit {@link #transport transport} or {@link #httpClient HttpClient} the client runs on
+     * {@link PdfDancerTransport#shared()}, unless an HTTP version, connect timeout or executor is set; those
+     * settings give the client a dedicated {@code HttpClient} instead.
+     * </p>
+     *
+     * <h3>Example Usage:</h3>
+     * <pre>{@code
+     * PdfDancerHttpClient client = PdfDancerHttpClient.builder()
+     *     .baseUrl(URI.create("https://api.pdfdancer.com"))
+     *     .httpVersion(HttpClient.Version.HTTP_2)
+     *     .connectTimeout(Duration.ofSeconds(5))
+     *     .virtualThreads()
+     *     .timeouts(TimeoutConfig.builder()
+     *         .requestTimeout(Duration.ofSeconds(10))
+     *         .endpoint("GET", "/session/{id}/pdf", Duration.ofMinutes(10))
+     *         .operationDeadline(Duration.ofSeconds(60))
+     *         .build())
+     *     .build();
+     * }</pre>
+     */
+    public static final class Builder {
+        private URI baseUrl;
+        private PdfDancerTransport transport;
+        private HttpClient httpClient;
+        private HttpClient.Version httpVersion;
+        private Duration connectTimeout;
+        private Executor executor;
+        private ObjectMapper objectMapper;
+        private RetryConfig retryConfig;
+        private CompressionConfig compression;
+        private TimeoutConfig timeouts;
+        private ConcurrencyLimitConfig concurrencyLimit;
+        private RateLimitConfig rateLimit;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the API base URL. Required.
+         *
+         * @param baseUrl the API base URL
+         * @return this builder
+         */
+        public Builder baseUrl(URI baseUrl) {
+            this.baseUrl = Objects.requireNonNull(baseUrl, "baseUrl");
+            return this;
+        }
+
+        /**
+         * Runs the client on the connections and codecs of {@code transport}.
+         *
+         * @param transport an open transport
+         * @return this builder
+         */
+        public Builder transport(PdfDancerTransport transport) {
+            this.transport = transport;
+            return this;
+        }
+
+        /**
+         * Runs the client on a caller-managed {@link HttpClient}.
+         *
+         * @param httpClient the HttpClient to send requests with
+         * @return this builder
+         */
+        public Builder httpClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        /**
+         * Sets the preferred HTTP version of a dedicated HttpClient. Defaults to {@link HttpClient.Version#HTTP_2},
+         * which falls back to HTTP/1.1 where the server does not support it.
+         *
+         * @param httpVersion the preferred HTTP version
+         * @return this builder
+         */
+        public Builder httpVersion(HttpClient.Version httpVersion) {
+            this.httpVersion = Objects.requireNonNull(httpVersion, "httpVersion");
+            return this;
+        }
+
+        /**
+         * Sets the connect timeout of a dedicated HttpClient. Defaults to
+         * {@link PdfDancerTransport#DEFAULT_CONNECT_TIMEOUT}.
+         *
+         * @param connectTimeout the connect timeout
+         * @return this builder
+         */
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = Objects.requireNonNull(connectTimeout, "connectTimeout");
+            return this;
+        }
+
+        /**
+         * Sets the executor of a dedicated HttpClient, which runs asynchronous requests and their callbacks.
+         * The caller remains responsible for shutting it down.
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor");
+            return this;
+        }
+
+        /**
+         * Runs asynchronous requests and their callbacks on virtual threads. Has no effect on runtimes older
+         * than Java 21, which keep the HttpClient default executor.
+         *
+         * @return this builder
+         */
+        public Builder virtualThreads() {
+            VirtualThreads.newPerTaskExecutor().ifPresent(this::executor);
+            return this;
+        }
+
+        /**
+         * Sets the mapper used for JSON bodies.
+         *
+         * @param objectMapper the mapper, or {@code null} for the default
+         * @return this builder
+         */
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Sets the retry configuration.
+         *
+         * @param retryConfig the retry configuration, or {@code null} for {@link RetryConfig#defaultConfig()}
+         * @return this builder
+         */
+        public Builder retryConfig(RetryConfig retryConfig) {
+            this.retryConfig = retryConfig;
+            return this;
+        }
+
+        /**
+         * Sets the compression configuration.
+         *
+         * @param compression the compression configuration, or {@code null} for {@link CompressionConfig#disabled()}
+         * @return this builder
+         */
+        public Builder compression(CompressionConfig compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        /**
+         * Sets the request timeouts and the operation deadline.
+         *
+         * @param timeouts the timeout configuration, or {@code null} for {@link TimeoutConfig#defaultConfig()}
+         * @return this builder
+         */
+        public Builder timeouts(TimeoutConfig timeouts) {
+            this.timeouts = timeouts;
+            return this;
+        }
+
+        /**
+         * Limits the concurrent requests of this client adaptively. Without this setting a client on a
+         * transport shares the transport's limit, and any other client is unlimited.
+         *
+         * @param concurrencyLimit the limit configuration, or {@code null} for the default
+         * @return this builder
+         */
+        public Builder concurrencyLimit(ConcurrencyLimitConfig concurrencyLimit) {
+            this.concurrencyLimit = concurrencyLimit;
+            return this;
+        }
+
+        /**
+         * Sets how this client honours {@code Retry-After} across threads and paces its requests. Without this
+         * setting a client on a transport shares the transport's gate, and any other client gets its own gate
+         * with {@link RateLimitConfig#defaultConfig()}.
+         *
+         * @param rateLimit the rate-limit configuration, or {@code null} for the default
+         * @return this builder
+         */
+        public Builder rateLimit(RateLimitConfig rateLimit) {
+            this.rateLimit = rateLimit;
+            return this;
+        }
+
+        /**
+         * Builds the PdfDancerHttpClient instance.
+         *
+         * @return a new PdfDancerHttpClient
+         * @throws IllegalStateException if no base URL is set, if both a transport and an HttpClient are set,
+         *                               if HttpClient settings are combined with either of them, or if the
+         *                               transport is closed
+         */
+        public PdfDancerHttpClient build() {
+            if (baseUrl == null) {
+                throw new IllegalStateException("baseUrl is required");
+            }
+            if (transport != null && httpClient != null) {
+                throw new IllegalStateException("Set either a transport or an HttpClient, not both");
+            }
+            boolean dedicated = httpVersion != null || connectTimeout != null || executor != null;
+            if (dedicated && (transport != null || httpClient != null)) {
+                throw new IllegalStateException(
+                        "HTTP version, connect timeout and executor must be configured on the transport or HttpClient");
+            }
+
+            JsonCodecs codecs = objectMapper != null ? codecsFor(objectMapper) : DefaultCodecs.INSTANCE;
+            ConcurrencyLimiter limiter = concurrencyLimit != null ? ConcurrencyLimiter.create(concurrencyLimit) : null;
+            RateLimitGate rateLimits = rateLimit != null ? RateLimitGate.create(rateLimit) : null;
+            HttpClient client;
+            if (httpClient != null) {
+                client = httpClient;
+            } else if (dedicated) {
+                client = PdfDancerTransport.newHttpClient(
+                        connectTimeout != null ? connectTimeout : PdfDancerTransport.DEFAULT_CONNECT_TIMEOUT,
+                        httpVersion != null ? httpVersion : HttpClient.Version.HTTP_2,
+                        executor);
+            } else {
+                PdfDancerTransport source = transport != null ? transport : PdfDancerTransport.shared();
+                source.ensureOpen();
+                client = source.getHttpClient();
+                if (objectMapper == null) {
+                    codecs = source.codecs();
+                }
+                if (limiter == null) {
+                    limiter = source.limiter();
+                }
+                if (rateLimits == null) {
+                    rateLimits = source.rateLimits();
+                }
+            }
+            return new PdfDancerHttpClient(client, baseUrl, codecs, retryConfig, compression, timeouts, limiter,
+                    rateLimits);
+        }
     }
 }
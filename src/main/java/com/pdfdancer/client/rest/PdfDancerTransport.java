@@ -0,0 +1,292 @@
+package com.pdfdancer.client.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Connection pool, protocol settings and JSON codecs shared by any number of {@link PdfDancerHttpClient}s.
+ * <p>
+ * Each {@link java.net.http.HttpClient} owns its own connection pool and selector thread, so a client per
+ * session pays a fresh TCP (and TLS) handshake for every session. Clients created from one transport share a
+ * single {@code HttpClient}: connections to the API stay open between sessions and HTTP/2 streams are
+ * multiplexed over them. The session factories on {@link PDFDancer} that do not take a client use the
+ * process-wide {@link #shared()} transport.
+ * </p>
+ * <p>
+ * A transport is open until {@link #close()}. Closing it stops new clients from being created; on Java 21 and
+ * later it also closes the underlying {@code HttpClient} once in-flight requests finish. Executors passed to
+ * the builder belong to the caller and are never shut down.
+ * </p>
+ *
+ * <h3>Example Usage:</h3>
+ * <pre>{@code
+ * PdfDancerTransport transport = PdfDancerTransport.builder()
+ *     .connectTimeout(Duration.ofSeconds(10))
+ *     .executor(executor)
+ *     .build();
+ * PdfDancerTransport.setShared(transport);
+ * PDFDancer pdf = PDFDancer.createSession(Path.of("form.pdf")); // uses the transport above
+ * }</pre>
+ */
+public final class PdfDancerTransport implements AutoCloseable {
+
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Object SHARED_LOCK = new Object();
+    private static PdfDancerTransport shared;
+
+    private final HttpClient httpClient;
+    private final JsonCodecs codecs;
+    private final ConcurrencyLimiter limiter;
+    private final RateLimitGate rateLimits;
+    private volatile boolean closed;
+
+    private PdfDancerTransport(Builder builder) {
+        this.httpClient = newHttpClient(builder.connectTimeout, builder.httpVersion, builder.executor);
+        this.codecs = PdfDancerHttpClient.codecsFor(builder.objectMapper);
+        this.limiter = ConcurrencyLimiter.create(builder.concurrencyLimit);
+        this.rateLimits = RateLimitGate.create(builder.rateLimit);
+    }
+
+    static HttpClient newHttpClient(Duration connectTimeout, HttpClient.Version httpVersion, Executor executor) {
+        HttpClient.Builder http = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .version(httpVersion);
+        if (executor != null) {
+            http.executor(executor);
+        }
+        return http.build();
+    }
+
+    /**
+     * Returns the process-wide transport, creating one with default settings if none is set or the current
+     * one was closed.
+     *
+     * @return the shared transport
+     */
+    public static PdfDancerTransport shared() {
+        synchronized (SHARED_LOCK) {
+            if (shared == null || shared.isClosed()) {
+                shared = builder().build();
+            }
+            return shared;
+        }
+    }
+
+    /**
+     * Replaces the process-wide transport. The previous transport is returned, not closed, since clients
+     * created from it may still be in use.
+     *
+     * @param transport the transport to share from now on
+     * @return the previously shared transport, or {@code null} if none was created yet
+     */
+    public static PdfDancerTransport setShared(PdfDancerTransport transport) {
+        Objects.requireNonNull(transport, "transport");
+        synchronized (SHARED_LOCK) {
+            PdfDancerTransport previous = shared;
+            shared = transport;
+            return previous;
+        }
+    }
+
+    /**
+     * Creates a new builder for constructing a PdfDancerTransport.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a client for the given API base URL with the default retry configuration.
+     *
+     * @param baseUrl the API base URL
+     * @return a client using this transport's connections and codecs
+     * @throws IllegalStateException if this transport is closed
+     */
+    public PdfDancerHttpClient client(URI baseUrl) {
+        return client(baseUrl, null, null);
+    }
+
+    public PdfDancerHttpClient client(URI baseUrl, RetryConfig retryConfig) {
+        return client(baseUrl, retryConfig, null);
+    }
+
+    /**
+     * Creates a client for the given API base URL. A {@code null} retry or compression configuration
+     * selects the respective default.
+     *
+     * @throws IllegalStateException if this transport is closed
+     */
+    public PdfDancerHttpClient client(URI baseUrl, RetryConfig retryConfig, CompressionConfig compression) {
+        ensureOpen();
+        return PdfDancerHttpClient.create(httpClient, baseUrl, codecs, retryConfig, compression, limiter, rateLimits);
+    }
+
+    void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("PdfDancerTransport is closed");
+        }
+    }
+
+    JsonCodecs codecs() {
+        return codecs;
+    }
+
+    ConcurrencyLimiter limiter() {
+        return limiter;
+    }
+
+    RateLimitGate rateLimits() {
+        return rateLimits;
+    }
+
+    /**
+     * @return the state of the concurrency limit shared by all clients of this transport
+     */
+    public ConcurrencyLimitStats getConcurrencyLimitStats() {
+        return limiter.stats();
+    }
+
+    /**
+     * @return the {@link HttpClient} shared by all clients of this transport
+     */
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes this transport. Clients already created keep working until the underlying {@link HttpClient}
+     * shuts down, which on Java 21 and later happens once their in-flight requests complete.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // HttpClient implements AutoCloseable from Java 21 on; before that its threads end once it is unreachable.
+        if (httpClient instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) httpClient).close();
+            } catch (Exception e) {
+                throw new PdfDancerClientException("Failed to close HTTP transport", e);
+            }
+        }
+    }
+
+    /**
+     * Builder for constructing PdfDancerTransport instances.
+     */
+    public static final class Builder {
+        private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        private HttpClient.Version httpVersion = HttpClient.Version.HTTP_2;
+        private Executor executor;
+        private ObjectMapper objectMapper;
+        private ConcurrencyLimitConfig concurrencyLimit;
+        private RateLimitConfig rateLimit;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the timeout for establishing connections.
+         *
+         * @param connectTimeout the connect timeout
+         * @return this builder
+         */
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = Objects.requireNonNull(connectTimeout, "connectTimeout");
+            return this;
+        }
+
+        /**
+         * Sets the preferred HTTP version. {@link HttpClient.Version#HTTP_2}, the default, multiplexes
+         * requests over one connection where the server supports it and falls back to HTTP/1.1 otherwise.
+         *
+         * @param httpVersion the preferred HTTP version
+         * @return this builder
+         */
+        public Builder httpVersion(HttpClient.Version httpVersion) {
+            this.httpVersion = Objects.requireNonNull(httpVersion, "httpVersion");
+            return this;
+        }
+
+        /**
+         * Sets the executor for asynchronous and dependent tasks of the {@link HttpClient}. The caller
+         * remains responsible for shutting it down.
+         *
+         * @param executor the executor, or {@code null} for the HttpClient default
+         * @return this builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Runs asynchronous requests and their callbacks on virtual threads. Has no effect on runtimes older
+         * than Java 21, which keep the HttpClient default executor.
+         *
+         * @return this builder
+         */
+        public Builder virtualThreads() {
+            VirtualThreads.newPerTaskExecutor().ifPresent(this::executor);
+            return this;
+        }
+
+        /**
+         * Sets the mapper used for JSON bodies. Its readers and writers are resolved once per transport.
+         *
+         * @param objectMapper the mapper, or {@code null} for the client default
+         * @return this builder
+         */
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Limits the concurrent requests of all clients of this transport together, adapting the limit to
+         * overload responses and latency. Unlimited by default.
+         *
+         * @param concurrencyLimit the limit configuration, or {@code null} for no limit
+         * @return this builder
+         */
+        public Builder concurrencyLimit(ConcurrencyLimitConfig concurrencyLimit) {
+            this.concurrencyLimit = concurrencyLimit;
+            return this;
+        }
+
+        /**
+         * Sets how {@code Retry-After} responses hold the requests of all clients of this transport, and
+         * optionally paces them. Defaults to {@link RateLimitConfig#defaultConfig()}.
+         *
+         * @param rateLimit the rate-limit configuration, or {@code null} for the default
+         * @return this builder
+         */
+        public Builder rateLimit(RateLimitConfig rateLimit) {
+            this.rateLimit = rateLimit;
+            return this;
+        }
+
+        /**
+         * Builds the PdfDancerTransport instance.
+         *
+         * @return a new, open PdfDancerTransport
+         */
+        public PdfDancerTransport build() {
+            return new PdfDancerTransport(this);
+        }
+    }
+}
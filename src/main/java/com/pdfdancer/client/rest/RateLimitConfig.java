@@ -0,0 +1,196 @@
+package com.pdfdancer.client.rest;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configuration for the rate-limit gate shared by all threads of a client or transport.
+ * <p>
+ * When a response other than a success carries {@code Retry-After}, every later request to the same base URL
+ * with the same credentials is held until that window expires, not only the retry of the request that was
+ * throttled. The hold is capped at {@link #getMaxHold()}. Optionally, requests are also paced by a token
+ * bucket of {@link #getRequestsPerSecond()} with bursts of up to {@link #getBurst()} requests; right after a
+ * {@code Retry-After} window the bucket starts empty, so held requests resume one interval apart instead of
+ * all at once.
+ * </p>
+ * <p>
+ * A request whose {@link TimeoutConfig#getOperationDeadline() operation deadline} would pass while it is
+ * held fails with a {@link RateLimitException} right away.
+ * </p>
+ *
+ * <h3>Example Usage:</h3>
+ * <pre>{@code
+ * RateLimitConfig rateLimit = RateLimitConfig.builder()
+ *     .maxHold(Duration.ofSeconds(30))
+ *     .requestsPerSecond(50)
+ *     .burst(10)
+ *     .build();
+ * PdfDancerTransport.setShared(PdfDancerTransport.builder().rateLimit(rateLimit).build());
+ * }</pre>
+ */
+public final class RateLimitConfig {
+
+    public static final Duration DEFAULT_MAX_HOLD = Duration.ofSeconds(60);
+
+    private static final RateLimitConfig DEFAULT = builder().build();
+    private static final RateLimitConfig DISABLED = builder().honorRetryAfter(false).build();
+
+    private final boolean honorRetryAfter;
+    private final Duration maxHold;
+    private final double requestsPerSecond;
+    private final int burst;
+
+    private RateLimitConfig(Builder builder) {
+        this.honorRetryAfter = builder.honorRetryAfter;
+        this.maxHold = builder.maxHold;
+        this.requestsPerSecond = builder.requestsPerSecond;
+        this.burst = builder.burst;
+    }
+
+    /**
+     * Creates the default configuration: {@code Retry-After} holds all requests for up to
+     * {@link #DEFAULT_MAX_HOLD}, and requests are not paced.
+     *
+     * @return the default RateLimitConfig
+     */
+    public static RateLimitConfig defaultConfig() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a configuration without a shared gate; {@code Retry-After} only delays the retry of the
+     * throttled request itself.
+     *
+     * @return a disabled RateLimitConfig
+     */
+    public static RateLimitConfig disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Creates a new builder for constructing a RateLimitConfig.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean isHonorRetryAfter() {
+        return honorRetryAfter;
+    }
+
+    /**
+     * Gets the longest time a {@code Retry-After} header holds requests.
+     *
+     * @return the maximum hold
+     */
+    public Duration getMaxHold() {
+        return maxHold;
+    }
+
+    /**
+     * Gets the sustained request rate of the token bucket.
+     *
+     * @return requests per second, or 0 if requests are not paced
+     */
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    /**
+     * Gets how many requests the token bucket lets through back to back.
+     *
+     * @return the burst size
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    boolean isEnabled() {
+        return honorRetryAfter || isPaced();
+    }
+
+    boolean isPaced() {
+        return requestsPerSecond > 0;
+    }
+
+    /**
+     * Builder for constructing RateLimitConfig instances.
+     */
+    public static final class Builder {
+        private boolean honorRetryAfter = true;
+        private Duration maxHold = DEFAULT_MAX_HOLD;
+        private double requestsPerSecond;
+        private int burst = 1;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets whether a {@code Retry-After} header holds all requests sharing the gate.
+         *
+         * @param honorRetryAfter true to hold all requests during the window
+         * @return this builder
+         */
+        public Builder honorRetryAfter(boolean honorRetryAfter) {
+            this.honorRetryAfter = honorRetryAfter;
+            return this;
+        }
+
+        /**
+         * Sets the longest time a {@code Retry-After} header holds requests.
+         *
+         * @param maxHold the maximum hold
+         * @return this builder
+         * @throws IllegalArgumentException if maxHold is negative
+         */
+        public Builder maxHold(Duration maxHold) {
+            Objects.requireNonNull(maxHold, "maxHold");
+            if (maxHold.isNegative()) {
+                throw new IllegalArgumentException("maxHold must not be negative");
+            }
+            this.maxHold = maxHold;
+            return this;
+        }
+
+        /**
+         * Paces requests with a token bucket refilled at this rate.
+         *
+         * @param requestsPerSecond the sustained rate, or 0 to disable pacing
+         * @return this builder
+         * @throws IllegalArgumentException if requestsPerSecond is negative
+         */
+        public Builder requestsPerSecond(double requestsPerSecond) {
+            if (!(requestsPerSecond >= 0)) {
+                throw new IllegalArgumentException("requestsPerSecond must not be negative");
+            }
+            this.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets how many requests the token bucket lets through back to back.
+         *
+         * @param burst the bucket capacity, at least 1
+         * @return this builder
+         * @throws IllegalArgumentException if burst is less than 1
+         */
+        public Builder burst(int burst) {
+            if (burst < 1) {
+                throw new IllegalArgumentException("burst must be >= 1");
+            }
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Builds the RateLimitConfig instance.
+         *
+         * @return a new RateLimitConfig
+         */
+        public RateLimitConfig build() {
+            return new RateLimitConfig(this);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.pdfdancer.client.rest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rate-limit windows shared by all threads of a client or transport, configured by {@link RateLimitConfig}.
+ * <p>
+ * Requests are grouped by base URL and {@code Authorization} header, so one throttled token does not hold
+ * requests made with another. A {@code Retry-After} window holds every request of its group until it expires.
+ * Pacing uses the generic cell rate algorithm: each request reserves the next send time of its group, which
+ * lets a burst of requests through at once and spaces the rest one interval apart. Groups without an open
+ * window or outstanding reservations are dropped now and then, so session tokens do not accumulate.
+ * </p>
+ */
+final class RateLimitGate {
+
+    static final RateLimitGate DISABLED = new RateLimitGate(RateLimitConfig.disabled());
+
+    private static final int SWEEP_INTERVAL = 1024;
+
+    private final RateLimitConfig config;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final AtomicInteger operations = new AtomicInteger();
+
+    private RateLimitGate(RateLimitConfig config) {
+        this.config = config;
+        this.intervalNanos = config.isPaced() ? (long) Math.ceil(1e9 / config.getRequestsPerSecond()) : 0L;
+        this.toleranceNanos = intervalNanos * (config.getBurst() - 1);
+    }
+
+    static RateLimitGate create(RateLimitConfig config) {
+        RateLimitConfig effective = config != null ? config : RateLimitConfig.defaultConfig();
+        return effective.isEnabled() ? new RateLimitGate(effective) : DISABLED;
+    }
+
+    static String key(URI baseUrl, HttpRequest request) {
+        return baseUrl + " " + request.headers().firstValue("Authorization").orElse("");
+    }
+
+    /**
+     * Reserves a send time for one request of the group {@code key}.
+     *
+     * @return how long the caller must wait before sending; zero if it may send right away
+     */
+    Duration reserve(String key) {
+        if (!config.isEnabled()) {
+            return Duration.ZERO;
+        }
+        long now = System.nanoTime();
+        Window window = config.isPaced()
+                ? windows.computeIfAbsent(key, k -> new Window(now))
+                : windows.get(key);
+        long wait = window == null ? 0L : window.reserve(now);
+        sweep(now);
+        return Duration.ofNanos(Math.max(0L, wait));
+    }
+
+    /**
+     * Holds all requests of the group {@code key} for {@code retryAfter}, capped at
+     * {@link RateLimitConfig#getMaxHold()}.
+     */
+    void hold(String key, Duration retryAfter) {
+        if (!config.isHonorRetryAfter() || retryAfter.isZero() || retryAfter.isNegative()) {
+            return;
+        }
+        long now = System.nanoTime();
+        Duration hold = retryAfter.compareTo(config.getMaxHold()) > 0 ? config.getMaxHold() : retryAfter;
+        windows.computeIfAbsent(key, k -> new Window(now)).hold(now + hold.toNanos());
+        sweep(now);
+    }
+
+    boolean isHonorRetryAfter() {
+        return config.isHonorRetryAfter();
+    }
+
+    private void sweep(long now) {
+        if (operations.incrementAndGet() % SWEEP_INTERVAL == 0) {
+            windows.values().removeIf(window -> window.isIdle(now));
+        }
+    }
+
+    private final class Window {
+        private long openAtNanos;
+        private boolean held;
+        private long theoreticalArrivalNanos;
+
+        Window(long now) {
+            this.theoreticalArrivalNanos = now;
+        }
+
+        synchronized long reserve(long now) {
+            long start = held && openAtNanos - now > 0 ? openAtNanos : now;
+            long sendAt = start;
+            if (intervalNanos > 0) {
+                long arrival = theoreticalArrivalNanos - start > 0 ? theoreticalArrivalNanos : start;
+                if (arrival - toleranceNanos - start > 0) {
+                    sendAt = arrival - toleranceNanos;
+                }
+                theoreticalArrivalNanos = arrival + intervalNanos;
+            }
+            return sendAt - now;
+        }
+
+        /**
+         * Extends the window to {@code untilNanos}. The bucket is emptied as of then, so that held requests do
+         * not resume as one burst.
+         */
+        synchronized void hold(long untilNanos) {
+            if (!held || untilNanos - openAtNanos > 0) {
+                openAtNanos = untilNanos;
+                held = true;
+            }
+            long drained = openAtNanos + toleranceNanos;
+            if (intervalNanos > 0 && drained - theoreticalArrivalNanos > 0) {
+                theoreticalArrivalNanos = drained;
+            }
+        }
+
+        synchronized boolean isIdle(long now) {
+            return (!held || openAtNanos - now <= 0) && theoreticalArrivalNanos - now <= 0;
+        }
+    }
+}
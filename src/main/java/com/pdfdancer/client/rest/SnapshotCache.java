@@ -1,42 +1,191 @@
 package com.pdfdancer.client.rest;
 
 import com.pdfdancer.client.http.HttpRequest;
+import com.pdfdancer.client.http.MediaType;
+import com.pdfdancer.client.http.MutableHttpRequest;
+import com.pdfdancer.common.model.DocumentFontInfoDto;
+import com.pdfdancer.common.model.FormFieldRef;
 import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.model.ObjectType;
 import com.pdfdancer.common.response.DocumentSnapshot;
 import com.pdfdancer.common.response.PageSnapshot;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Encapsulates all snapshot fetching and caching logic.
+ * <p>
+ * Mutations that affect known pages only evict those pages ({@link #invalidatePages}). Cached document
+ * snapshots are kept and remember which of their pages went stale; the next read refetches just those
+ * pages and patches them in, instead of downloading the whole document again.
+ * <p>
+ * The cache is safe to share between threads. Entries are futures, so concurrent misses for the same key
+ * collapse into a single request (single flight). Every invalidation advances an epoch; a load that
+ * started before an invalidation still completes for its callers but is never published into the cache.
+ * <p>
+ * Completed entries of all four maps share one budget ({@link SnapshotCacheConfig}). Usage is tracked in a
+ * single access-ordered map, and the least recently used entries are evicted once the entry count or the
+ * estimated weight exceeds the budget.
+ * <p>
+ * Requests filtered by element type are answered from a cached full ({@code __ALL__}) snapshot when one is
+ * available, by filtering on {@link ObjectRef#getType()}; only when no such superset is cached, or the filter
+ * cannot be evaluated client-side, does the request go to the server.
  */
 final class SnapshotCache implements SnapshotFetcher {
     private static final String ALL_TYPES_KEY = "__ALL__";
+    private static final int WHOLE_DOCUMENT = 0;
+    private static final Set<ObjectType> FORM_FIELD_TYPES = EnumSet.of(ObjectType.TEXT_FIELD, ObjectType.CHECKBOX,
+            ObjectType.RADIO_BUTTON, ObjectType.DROPDOWN, ObjectType.BUTTON);
+    private static final Set<ObjectType> PROJECTABLE_TYPES = EnumSet.of(ObjectType.IMAGE, ObjectType.PATH,
+            ObjectType.FORM_X_OBJECT, ObjectType.TEXT_FIELD, ObjectType.CHECKBOX, ObjectType.RADIO_BUTTON,
+            ObjectType.DROPDOWN, ObjectType.BUTTON);
+
+    // Rough per-object heap costs used to weigh snapshots; only their relative size matters for eviction.
+    private static final long SNAPSHOT_OVERHEAD_BYTES = 128;
+    private static final long PAGE_OVERHEAD_BYTES = 256;
+    private static final long ELEMENT_BYTES = 320;
+    private static final long FONT_BYTES = 160;
+    private static final int HIT_BUFFER_CAPACITY = 256;
 
     private final String token;
     private final String sessionId;
+    private final PdfDancerHttpClient client;
     private final PdfDancerHttpClient.Blocking blockingClient;
+    private final PdfDancerHttpClient.Async asyncClient;
+
+    private final ConcurrentMap<String, CompletableFuture<DocumentSnapshot>> documentSnapshotCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<PageSnapshotKey, CompletableFuture<PageSnapshot>> pageSnapshotCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<DocumentSnapshotKey, CompletableFuture<TypedDocumentSnapshot<?>>> typedDocumentSnapshotCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TypedPageSnapshotKey, CompletableFuture<TypedPageSnapshot<?>>> typedPageSnapshotCache = new ConcurrentHashMap<>();
+    /**
+     * Spatial, name and id indexes derived from cached snapshots, keyed by page ({@link #WHOLE_DOCUMENT} for
+     * document-wide ones). Dropped together with the snapshots they were built from.
+     */
+    private final ConcurrentMap<DerivedIndexKey, Object> derivedIndexes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<Integer>> staleDocumentPages = new ConcurrentHashMap<>();
+    private final ConcurrentMap<DocumentSnapshotKey, Set<Integer>> staleTypedDocumentPages = new ConcurrentHashMap<>();
+
+    /**
+     * Advanced by every invalidation; guarded by {@code this} together with publication of loaded entries.
+     */
+    private long epoch;
 
-    private final Map<String, DocumentSnapshot> documentSnapshotCache = new HashMap<>();
-    private final Map<PageSnapshotKey, PageSnapshot> pageSnapshotCache = new HashMap<>();
-    private final Map<DocumentSnapshotKey, TypedDocumentSnapshot<?>> typedDocumentSnapshotCache = new HashMap<>();
-    private final Map<TypedPageSnapshotKey, TypedPageSnapshot<?>> typedPageSnapshotCache = new HashMap<>();
+    // Guarded by this.
+    private final LinkedHashMap<Entry, Long> usage = new LinkedHashMap<>(16, 0.75f, true);
+    private volatile SnapshotCacheConfig config = SnapshotCacheConfig.unbounded();
+    private long weight;
+    private long evictions;
 
-    SnapshotCache(String token, String sessionId, PdfDancerHttpClient.Blocking blockingClient) {
+    /**
+     * Hits on a bounded cache, recorded without the lock and replayed into {@link #usage} before the next
+     * eviction. Hits beyond the capacity are dropped; recency only needs to be approximate.
+     */
+    private final ConcurrentLinkedQueue<Entry> recentHits = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger recentHitCount = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    SnapshotCache(String token, String sessionId, PdfDancerHttpClient client) {
         this.token = token;
         this.sessionId = sessionId;
-        this.blockingClient = blockingClient;
+        this.client = client;
+        this.blockingClient = client.toBlocking();
+        this.asyncClient = client.toAsync();
     }
 
-    void invalidate() {
+    synchronized void configure(SnapshotCacheConfig config) {
+        this.config = config;
+        evictIfNeeded();
+    }
+
+    synchronized SnapshotCacheStats stats() {
+        return new SnapshotCacheStats(hits.sum(), misses.sum(), evictions, usage.size(), weight);
+    }
+
+    synchronized void invalidate() {
+        epoch++;
+        usage.clear();
+        weight = 0;
         documentSnapshotCache.clear();
         pageSnapshotCache.clear();
         typedDocumentSnapshotCache.clear();
         typedPageSnapshotCache.clear();
+        staleDocumentPages.clear();
+        staleTypedDocumentPages.clear();
+        derivedIndexes.clear();
+    }
+
+    /**
+     * Evicts the given 1-based pages only. Page count and numbering must be unchanged by the mutation;
+     * structural page operations have to use {@link #invalidate()}.
+     */
+    synchronized void invalidatePages(Collection<Integer> pageNumbers) {
+        if (pageNumbers.isEmpty()) {
+            return;
+        }
+        epoch++;
+        Set<Integer> pages = Set.copyOf(pageNumbers);
+        pageSnapshotCache.forEach((key, future) -> {
+            if (pages.contains(key.pageNumber())) discard(Region.PAGE, pageSnapshotCache, key, future);
+        });
+        typedPageSnapshotCache.forEach((key, future) -> {
+            if (pages.contains(key.pageNumber())) discard(Region.TYPED_PAGE, typedPageSnapshotCache, key, future);
+        });
+        markStale(Region.DOCUMENT, documentSnapshotCache, staleDocumentPages, pages);
+        markStale(Region.TYPED_DOCUMENT, typedDocumentSnapshotCache, staleTypedDocumentPages, pages);
+        derivedIndexes.keySet().removeIf(key -> key.pageNumber() == WHOLE_DOCUMENT || pages.contains(key.pageNumber()));
+    }
+
+    /**
+     * Completed documents are kept and patched lazily; loads still in flight may predate the mutation,
+     * so they are dropped and the next reader starts over.
+     */
+    private <K, D> void markStale(Region region, ConcurrentMap<K, CompletableFuture<D>> documents,
+                                  ConcurrentMap<K, Set<Integer>> stale, Set<Integer> pages) {
+        documents.forEach((key, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                stale.merge(key, pages, SnapshotCache::union);
+            } else {
+                discard(region, documents, key, future);
+            }
+        });
+    }
+
+    private static Set<Integer> union(Set<Integer> first, Set<Integer> second) {
+        Set<Integer> union = new TreeSet<>(first);
+        union.addAll(second);
+        return Collections.unmodifiableSet(union);
     }
 
     private String normalizeTypes(String types) {
@@ -52,112 +201,687 @@ final class SnapshotCache implements SnapshotFetcher {
         return normalized.isBlank() ? ALL_TYPES_KEY : normalized;
     }
 
-    @Override
-    public DocumentSnapshot fetchDocumentSnapshot(String types) {
-        String path = "/pdf/document/snapshot";
+    private MutableHttpRequest<Object> documentSnapshotRequest(String types) {
+        return snapshotRequest("/pdf/document/snapshot", types);
+    }
+
+    private MutableHttpRequest<Object> pageSnapshotRequest(int pageNumber, String types) {
+        return snapshotRequest("/pdf/page/" + pageNumber + "/snapshot", types);
+    }
+
+    private MutableHttpRequest<Object> snapshotRequest(String path, String types) {
         if (types != null && !types.isBlank()) {
             path += "?types=" + types;
         }
-        return blockingClient.retrieve(
-                HttpRequest.GET(path)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                DocumentSnapshot.class
-        );
+        return HttpRequest.GET(path)
+                .accept(MediaType.APPLICATION_SMILE_TYPE, MediaType.APPLICATION_JSON_TYPE)
+                .bearerAuth(token)
+                .header("X-Session-Id", sessionId);
+    }
+
+    @Override
+    public DocumentSnapshot fetchDocumentSnapshot(String types) {
+        return blockingClient.retrieve(documentSnapshotRequest(types), DocumentSnapshot.class);
     }
 
     @Override
     public PageSnapshot fetchPageSnapshot(int pageNumber, String types) {
-        String path = "/pdf/page/" + pageNumber + "/snapshot";
-        if (types != null && !types.isBlank()) {
-            path += "?types=" + types;
-        }
-        return blockingClient.retrieve(
-                HttpRequest.GET(path)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                PageSnapshot.class
-        );
+        return blockingClient.retrieve(pageSnapshotRequest(pageNumber, types), PageSnapshot.class);
     }
 
     @Override
     public <T extends ObjectRef> TypedDocumentSnapshot<T> fetchTypedDocumentSnapshot(Class<T> elementClass, String types) {
-        String path = "/pdf/document/snapshot";
-        if (types != null && !types.isBlank()) {
-            path += "?types=" + types;
-        }
         @SuppressWarnings("unchecked")
-        TypedDocumentSnapshot<T> result = blockingClient.retrieve(
-                HttpRequest.GET(path)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                TypedDocumentSnapshot.class
-        );
+        TypedDocumentSnapshot<T> result = blockingClient.retrieve(documentSnapshotRequest(types), TypedDocumentSnapshot.class);
         return result;
     }
 
     @Override
     public <T extends ObjectRef> TypedPageSnapshot<T> fetchTypedPageSnapshot(int pageNumber, Class<T> elementClass, String types) {
-        String path = "/pdf/page/" + pageNumber + "/snapshot";
-        if (types != null && !types.isBlank()) {
-            path += "?types=" + types;
-        }
         @SuppressWarnings("unchecked")
-        TypedPageSnapshot<T> result = blockingClient.retrieve(
-                HttpRequest.GET(path)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                TypedPageSnapshot.class
-        );
+        TypedPageSnapshot<T> result = blockingClient.retrieve(pageSnapshotRequest(pageNumber, types), TypedPageSnapshot.class);
         return result;
     }
 
+    /**
+     * Streams the pages of a document snapshot as they are parsed from the response body. Nothing is read
+     * from or written to the cache, so memory stays bounded by a single page. The stream holds the HTTP
+     * response open until it is consumed or closed.
+     */
+    Stream<PageSnapshot> streamDocumentSnapshot(String types) {
+        PageSnapshotIterator pages = new PageSnapshotIterator(client,
+                blockingClient.stream(documentSnapshotRequest(types).accept(MediaType.APPLICATION_JSON_TYPE)));
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(pages::close);
+    }
+
     DocumentSnapshot getDocumentSnapshotCached(String types) {
-        String key = normalizeTypes(types);
-        DocumentSnapshot cached = documentSnapshotCache.get(key);
-        if (cached != null) return cached;
-        DocumentSnapshot snapshot = fetchDocumentSnapshot(types);
-        documentSnapshotCache.put(key, snapshot);
-        List<PageSnapshot> pages = snapshot.pages();
-        for (int i = 0; i < pages.size(); i++) {
-            pageSnapshotCache.put(new PageSnapshotKey(i + 1, key), pages.get(i));
+        return join(documentSnapshot(types, false));
+    }
+
+    /**
+     * Spatial index over all elements of a page, built from the cached page snapshot on first use and
+     * dropped whenever that page's snapshots are invalidated or evicted.
+     */
+    SpatialIndex<ObjectRef> pageElementIndex(int pageNumber) {
+        return derivedIndex(new DerivedIndexKey(pageNumber, DerivedIndexKind.ELEMENTS),
+                () -> SpatialIndex.build(getPageSnapshotCached(pageNumber, null).elements()));
+    }
+
+    /**
+     * Spatial index over a page's form fields as listed by {@code formFields}, with the same lifetime
+     * as {@link #pageElementIndex}.
+     */
+    SpatialIndex<FormFieldRef> formFieldIndex(int pageNumber, Supplier<List<FormFieldRef>> formFields) {
+        return derivedIndex(new DerivedIndexKey(pageNumber, DerivedIndexKind.FORM_FIELDS),
+                () -> SpatialIndex.build(formFields.get()));
+    }
+
+    /**
+     * A page's form fields as listed by {@code formFields}, grouped by name in list order.
+     */
+    Map<String, List<FormFieldRef>> pageFormFieldsByName(int pageNumber, Supplier<List<FormFieldRef>> formFields) {
+        return derivedIndex(new DerivedIndexKey(pageNumber, DerivedIndexKind.FORM_FIELD_NAMES),
+                () -> groupByName(formFields.get()));
+    }
+
+    /**
+     * The document's form fields as listed by {@code formFields}, grouped by name in list order. Dropped
+     * whenever any page is invalidated.
+     */
+    Map<String, List<FormFieldRef>> formFieldsByName(Supplier<List<FormFieldRef>> formFields) {
+        return derivedIndex(new DerivedIndexKey(WHOLE_DOCUMENT, DerivedIndexKind.FORM_FIELD_NAMES),
+                () -> groupByName(formFields.get()));
+    }
+
+    /**
+     * A page's elements by internal id, built from the cached page snapshot.
+     */
+    Map<String, ObjectRef> pageElementsById(int pageNumber) {
+        return derivedIndex(new DerivedIndexKey(pageNumber, DerivedIndexKind.ELEMENT_IDS),
+                () -> indexById(getPageSnapshotCached(pageNumber, null).elements()));
+    }
+
+    /**
+     * All elements of the document by internal id, built from the cached document snapshot. Dropped
+     * whenever any page is invalidated.
+     */
+    Map<String, ObjectRef> elementsById() {
+        return derivedIndex(new DerivedIndexKey(WHOLE_DOCUMENT, DerivedIndexKind.ELEMENT_IDS), () -> {
+            DocumentSnapshot snapshot = getDocumentSnapshotCached(null);
+            List<ObjectRef> elements = new ArrayList<>();
+            if (snapshot.pages() != null) {
+                for (PageSnapshot page : snapshot.pages()) {
+                    if (page != null && page.elements() != null) elements.addAll(page.elements());
+                }
+            }
+            return indexById(elements);
+        });
+    }
+
+    private <I> I derivedIndex(DerivedIndexKey key, Supplier<I> build) {
+        @SuppressWarnings("unchecked")
+        I cached = (I) derivedIndexes.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long startEpoch = currentEpoch();
+        I index = build.get();
+        synchronized (this) {
+            // An index built across an invalidation may describe the old snapshot; use it once, don't keep it.
+            if (epoch == startEpoch) {
+                derivedIndexes.putIfAbsent(key, index);
+            }
+        }
+        return index;
+    }
+
+    private static Map<String, List<FormFieldRef>> groupByName(List<FormFieldRef> formFields) {
+        Map<String, List<FormFieldRef>> byName = new HashMap<>();
+        for (FormFieldRef ref : formFields) {
+            if (ref != null) byName.computeIfAbsent(ref.getName(), ignored -> new ArrayList<>(1)).add(ref);
+        }
+        byName.replaceAll((name, refs) -> Collections.unmodifiableList(refs));
+        return Collections.unmodifiableMap(byName);
+    }
+
+    /**
+     * Keeps the first element for an id, matching what a scan in snapshot order would find.
+     */
+    private static Map<String, ObjectRef> indexById(List<ObjectRef> elements) {
+        Map<String, ObjectRef> byId = new HashMap<>();
+        if (elements != null) {
+            for (ObjectRef ref : elements) {
+                if (ref != null && ref.getInternalId() != null) byId.putIfAbsent(ref.getInternalId(), ref);
+            }
         }
-        return snapshot;
+        return Collections.unmodifiableMap(byId);
+    }
+
+    CompletableFuture<DocumentSnapshot> getDocumentSnapshotAsync(String types) {
+        return documentSnapshot(types, true);
     }
 
     PageSnapshot getPageSnapshotCached(int pageNumber, String types) {
+        return join(pageSnapshot(pageNumber, types, false));
+    }
+
+    CompletableFuture<PageSnapshot> getPageSnapshotAsync(int pageNumber, String types) {
+        return pageSnapshot(pageNumber, types, true);
+    }
+
+    private CompletableFuture<DocumentSnapshot> documentSnapshot(String types, boolean async) {
         String key = normalizeTypes(types);
-        PageSnapshotKey cacheKey = new PageSnapshotKey(pageNumber, key);
-        PageSnapshot cached = pageSnapshotCache.get(cacheKey);
-        if (cached != null) return cached;
-        PageSnapshot snapshot = fetchPageSnapshot(pageNumber, types);
-        pageSnapshotCache.put(cacheKey, snapshot);
-        return snapshot;
+        return document(Region.DOCUMENT, documentSnapshotCache, staleDocumentPages, key,
+                () -> {
+                    DocumentSnapshot projected = projectDocument(types);
+                    if (projected != null) return CompletableFuture.completedFuture(projected);
+                    return async
+                            ? asyncClient.retrieve(documentSnapshotRequest(types), DocumentSnapshot.class)
+                            : CompletableFuture.completedFuture(fetchDocumentSnapshot(types));
+                },
+                DocumentSnapshot::pages,
+                pageNumber -> pageSnapshot(pageNumber, types, async),
+                SnapshotCache::patch,
+                SnapshotCache::weigh,
+                snapshot -> {
+                    List<PageSnapshot> pages = snapshot.pages();
+                    for (int i = 0; i < pages.size(); i++) {
+                        store(Region.PAGE, pageSnapshotCache, new PageSnapshotKey(i + 1, key), pages.get(i), weigh(pages.get(i)));
+                    }
+                });
     }
 
+    private CompletableFuture<PageSnapshot> pageSnapshot(int pageNumber, String types, boolean async) {
+        return load(Region.PAGE, pageSnapshotCache, new PageSnapshotKey(pageNumber, normalizeTypes(types)),
+                () -> {
+                    PageSnapshot projected = projectPage(pageNumber, types);
+                    if (projected != null) return CompletableFuture.completedFuture(projected);
+                    return async
+                            ? asyncClient.retrieve(pageSnapshotRequest(pageNumber, types), PageSnapshot.class)
+                            : CompletableFuture.completedFuture(fetchPageSnapshot(pageNumber, types));
+                },
+                SnapshotCache::weigh, null);
+    }
+
+    /**
+     * Rebuilds a document snapshot around refreshed pages. Fonts first used by a refreshed page are
+     * appended so the document font list stays a superset of the page font lists.
+     */
+    private static DocumentSnapshot patch(DocumentSnapshot cached, List<PageSnapshot> pages) {
+        List<DocumentFontInfoDto> fonts = cached.fonts();
+        if (fonts != null) {
+            Set<DocumentFontInfoDto> merged = new LinkedHashSet<>(fonts);
+            for (PageSnapshot page : pages) {
+                if (page.fonts() != null) merged.addAll(page.fonts());
+            }
+            fonts = List.copyOf(merged);
+        }
+        return new DocumentSnapshot(cached.pageCount(), fonts, Collections.unmodifiableList(pages));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
     <T extends ObjectRef> TypedDocumentSnapshot<T> getTypedDocumentSnapshot(Class<T> elementClass, String types) {
         String key = normalizeTypes(types);
-        DocumentSnapshotKey cacheKey = new DocumentSnapshotKey(elementClass, key);
-        @SuppressWarnings("unchecked")
-        TypedDocumentSnapshot<T> cached = (TypedDocumentSnapshot<T>) typedDocumentSnapshotCache.get(cacheKey);
-        if (cached != null) return cached;
-        TypedDocumentSnapshot<T> snapshot = fetchTypedDocumentSnapshot(elementClass, types);
-        typedDocumentSnapshotCache.put(cacheKey, snapshot);
-        List<TypedPageSnapshot<T>> pages = snapshot.getPages();
-        for (int i = 0; i < pages.size(); i++) {
-            typedPageSnapshotCache.put(new TypedPageSnapshotKey(i + 1, elementClass, key), pages.get(i));
-        }
-        return snapshot;
+        ConcurrentMap<DocumentSnapshotKey, CompletableFuture<TypedDocumentSnapshot<T>>> documents =
+                (ConcurrentMap) typedDocumentSnapshotCache;
+        return join(document(Region.TYPED_DOCUMENT, documents, staleTypedDocumentPages, new DocumentSnapshotKey(elementClass, key),
+                // Not projected: the typed document carries font recommendations the untyped one lacks.
+                () -> CompletableFuture.completedFuture(fetchTypedDocumentSnapshot(elementClass, types)),
+                TypedDocumentSnapshot::getPages,
+                pageNumber -> typedPageSnapshot(pageNumber, elementClass, types),
+                (cached, pages) -> new TypedDocumentSnapshot<>(cached.getPageCount(), cached.getFonts(), pages),
+                SnapshotCache::weigh,
+                snapshot -> {
+                    List<TypedPageSnapshot<T>> pages = snapshot.getPages();
+                    for (int i = 0; i < pages.size(); i++) {
+                        store(Region.TYPED_PAGE, typedPageSnapshotCache, new TypedPageSnapshotKey(i + 1, elementClass, key),
+                                pages.get(i), weigh(pages.get(i)));
+                    }
+                }));
     }
 
     <T extends ObjectRef> TypedPageSnapshot<T> getTypedPageSnapshot(int pageNumber, Class<T> elementClass, String types) {
-        String key = normalizeTypes(types);
-        TypedPageSnapshotKey cacheKey = new TypedPageSnapshotKey(pageNumber, elementClass, key);
-        @SuppressWarnings("unchecked")
-        TypedPageSnapshot<T> cached = (TypedPageSnapshot<T>) typedPageSnapshotCache.get(cacheKey);
-        if (cached != null) return cached;
-        TypedPageSnapshot<T> snapshot = fetchTypedPageSnapshot(pageNumber, elementClass, types);
-        typedPageSnapshotCache.put(cacheKey, snapshot);
-        return snapshot;
+        return join(typedPageSnapshot(pageNumber, elementClass, types));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <T extends ObjectRef> CompletableFuture<TypedPageSnapshot<T>> typedPageSnapshot(int pageNumber, Class<T> elementClass,
+                                                                                           String types) {
+        ConcurrentMap<TypedPageSnapshotKey, CompletableFuture<TypedPageSnapshot<T>>> pages = (ConcurrentMap) typedPageSnapshotCache;
+        return load(Region.TYPED_PAGE, pages, new TypedPageSnapshotKey(pageNumber, elementClass, normalizeTypes(types)),
+                () -> {
+                    TypedPageSnapshot<T> projected = projectTypedPage(pageNumber, elementClass, types);
+                    return CompletableFuture.completedFuture(projected != null
+                            ? projected : fetchTypedPageSnapshot(pageNumber, elementClass, types));
+                },
+                SnapshotCache::weigh, null);
+    }
+
+    /**
+     * Answers a type-filtered document request from the cached full ({@code __ALL__}) document, if there is
+     * a fresh one and the filter can be applied client-side. Never triggers a request itself.
+     */
+    private DocumentSnapshot projectDocument(String types) {
+        Set<ObjectType> filter = projectableTypes(types);
+        DocumentSnapshot full = filter == null ? null : cachedFullDocument();
+        if (full == null || full.pages() == null) {
+            return null;
+        }
+        List<PageSnapshot> pages = new ArrayList<>(full.pages().size());
+        for (PageSnapshot page : full.pages()) {
+            PageSnapshot projected = project(page, filter);
+            if (projected == null) return null;
+            pages.add(projected);
+        }
+        return new DocumentSnapshot(full.pageCount(), full.fonts(), Collections.unmodifiableList(pages));
+    }
+
+    private PageSnapshot projectPage(int pageNumber, String types) {
+        Set<ObjectType> filter = projectableTypes(types);
+        PageSnapshot full = filter == null ? null : cachedFullPage(pageNumber);
+        return full == null ? null : project(full, filter);
+    }
+
+    private <T extends ObjectRef> TypedPageSnapshot<T> projectTypedPage(int pageNumber, Class<T> elementClass, String types) {
+        Set<ObjectType> filter = projectableTypes(types);
+        PageSnapshot full = filter == null ? null : cachedFullPage(pageNumber);
+        return full == null ? null : project(full, filter, elementClass);
+    }
+
+    private DocumentSnapshot cachedFullDocument() {
+        if (staleDocumentPages.containsKey(ALL_TYPES_KEY)) {
+            return null;
+        }
+        return completedValue(documentSnapshotCache.get(ALL_TYPES_KEY));
+    }
+
+    private PageSnapshot cachedFullPage(int pageNumber) {
+        PageSnapshot page = completedValue(pageSnapshotCache.get(new PageSnapshotKey(pageNumber, ALL_TYPES_KEY)));
+        if (page != null) {
+            return page;
+        }
+        DocumentSnapshot document = cachedFullDocument();
+        if (document == null || document.pages() == null || pageNumber < 1 || pageNumber > document.pages().size()) {
+            return null;
+        }
+        return document.pages().get(pageNumber - 1);
+    }
+
+    private static PageSnapshot project(PageSnapshot page, Set<ObjectType> filter) {
+        List<ObjectRef> elements = filter(page.elements(), filter, ObjectRef.class);
+        return elements == null ? null : new PageSnapshot(page.pageRef(), elements, page.fonts());
+    }
+
+    private static <T extends ObjectRef> TypedPageSnapshot<T> project(PageSnapshot page, Set<ObjectType> filter,
+                                                                      Class<T> elementClass) {
+        List<T> elements = filter(page.elements(), filter, elementClass);
+        return elements == null ? null : new TypedPageSnapshot<>(page.pageRef(), elements);
+    }
+
+    /**
+     * Keeps the elements whose {@link ObjectRef#getType()} is in {@code filter}. Returns {@code null} when the
+     * result could differ from the server's: a generic {@code FORM_FIELD} element might be any form field
+     * type, and typed requests need every match to be an {@code elementClass} instance.
+     */
+    private static <T extends ObjectRef> List<T> filter(List<ObjectRef> elements, Set<ObjectType> filter,
+                                                        Class<T> elementClass) {
+        if (elements == null) {
+            return List.of();
+        }
+        List<T> matches = new ArrayList<>();
+        for (ObjectRef element : elements) {
+            if (element == null) continue;
+            ObjectType type = element.getType();
+            if (type == ObjectType.FORM_FIELD && !Collections.disjoint(filter, FORM_FIELD_TYPES)) {
+                return null;
+            }
+            if (type == null || !filter.contains(type)) continue;
+            if (!elementClass.isInstance(element)) {
+                return null;
+            }
+            matches.add(elementClass.cast(element));
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * Parses a types filter that can be evaluated against the full snapshot, or returns {@code null}.
+     * Text and path sub-types are left to the server, which may report them at a granularity the full
+     * snapshot does not contain.
+     */
+    private static Set<ObjectType> projectableTypes(String types) {
+        if (types == null || types.isBlank()) {
+            return null;
+        }
+        Set<ObjectType> filter = EnumSet.noneOf(ObjectType.class);
+        for (String token : types.split(",")) {
+            String name = token.trim().toUpperCase();
+            if (name.isEmpty()) continue;
+            ObjectType type;
+            try {
+                type = ObjectType.valueOf(name);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            if (!PROJECTABLE_TYPES.contains(type)) {
+                return null;
+            }
+            filter.add(type);
+        }
+        return filter.isEmpty() ? null : filter;
+    }
+
+    private static <V> V completedValue(CompletableFuture<V> future) {
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.join();
+    }
+
+    /**
+     * Returns the cached document for {@code key}, patching stale pages in place of a full reload when
+     * possible. Patching is single-flight too: the first reader swaps in a new future, later readers wait on it.
+     */
+    private <K, D, P> CompletableFuture<D> document(Region region, ConcurrentMap<K, CompletableFuture<D>> documents,
+                                                    ConcurrentMap<K, Set<Integer>> stale, K key,
+                                                    Supplier<CompletableFuture<D>> fetchDocument,
+                                                    Function<D, List<P>> pagesOf,
+                                                    IntFunction<CompletableFuture<P>> fetchPage,
+                                                    BiFunction<D, List<P>, D> rebuild,
+                                                    ToLongFunction<D> weigher,
+                                                    Consumer<D> publishPages) {
+        while (true) {
+            CompletableFuture<D> cached = documents.get(key);
+            if (cached == null) {
+                stale.remove(key);
+                return load(region, documents, key, fetchDocument, weigher, publishPages);
+            }
+            Set<Integer> stalePages = stale.get(key);
+            if (stalePages == null) {
+                if (documents.get(key) != cached) continue;
+                hit(region, key);
+                return cached;
+            }
+
+            CompletableFuture<D> patched = new CompletableFuture<>();
+            if (!documents.replace(key, cached, patched)) {
+                continue;
+            }
+            misses.increment();
+            long startEpoch = currentEpoch();
+            stalePages = stale.remove(key);
+            D document = cached.join();
+            List<P> pages = new ArrayList<>(pagesOf.apply(document));
+            if (stalePages == null || !isPatchable(stalePages, pages.size())) {
+                discard(region, documents, key, patched);
+                fetchDocument.get().whenComplete((value, error) -> {
+                    if (error != null) patched.completeExceptionally(error);
+                    else patched.complete(value);
+                });
+                // Not cached under the old future any more; the next reader loads it afresh.
+                return patched;
+            }
+
+            List<CompletableFuture<Void>> refreshed = new ArrayList<>();
+            for (int pageNumber : stalePages) {
+                refreshed.add(fetchPage.apply(pageNumber).thenAccept(page -> {
+                    synchronized (pages) {
+                        pages.set(pageNumber - 1, page);
+                    }
+                }));
+            }
+            CompletableFuture.allOf(refreshed.toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    discard(region, documents, key, patched);
+                    patched.completeExceptionally(unwrap(error));
+                    return;
+                }
+                D value;
+                synchronized (pages) {
+                    value = rebuild.apply(document, pages);
+                }
+                publish(startEpoch, region, documents, key, patched, value, weigher, publishPages);
+            });
+            return patched;
+        }
+    }
+
+    /**
+     * Single-flight load: the first caller for a missing key installs a future and runs {@code loader};
+     * concurrent callers receive the same future.
+     */
+    private <K, V> CompletableFuture<V> load(Region region, ConcurrentMap<K, CompletableFuture<V>> cache, K key,
+                                             Supplier<CompletableFuture<V>> loader, ToLongFunction<V> weigher,
+                                             Consumer<V> publishDerived) {
+        while (true) {
+            CompletableFuture<V> existing = cache.get(key);
+            if (existing != null) {
+                hit(region, key);
+                return existing;
+            }
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            if (cache.putIfAbsent(key, mine) != null) {
+                continue;
+            }
+            misses.increment();
+            long startEpoch = currentEpoch();
+            CompletableFuture<V> source;
+            try {
+                source = loader.get();
+            } catch (Throwable e) {
+                source = CompletableFuture.failedFuture(e);
+            }
+            // Whatever goes wrong, mine must be completed and removed, or later callers would join it forever.
+            source.whenComplete((value, error) -> {
+                if (error != null) {
+                    discard(region, cache, key, mine);
+                    mine.completeExceptionally(unwrap(error));
+                    return;
+                }
+                try {
+                    publish(startEpoch, region, cache, key, mine, value, weigher, publishDerived);
+                } catch (Throwable e) {
+                    discard(region, cache, key, mine);
+                    mine.completeExceptionally(e);
+                }
+            });
+            return mine;
+        }
+    }
+
+    /**
+     * Keeps {@code future} cached only if no invalidation happened since the load started and it was not
+     * evicted meanwhile, then completes it. Derived entries are published under the same lock so an
+     * invalidation cannot interleave.
+     */
+    private <K, V> void publish(long startEpoch, Region region, ConcurrentMap<K, CompletableFuture<V>> cache, K key,
+                                CompletableFuture<V> future, V value, ToLongFunction<V> weigher,
+                                Consumer<V> publishDerived) {
+        synchronized (this) {
+            if (epoch != startEpoch) {
+                discard(region, cache, key, future);
+            } else if (cache.get(key) == future) {
+                track(region, key, weigher.applyAsLong(value));
+                if (publishDerived != null) {
+                    publishDerived.accept(value);
+                }
+                evictIfNeeded();
+            }
+        }
+        future.complete(value);
+    }
+
+    /**
+     * Caches an already available value, e.g. a page taken from a freshly loaded document. Caller holds the lock.
+     */
+    private <K, V> void store(Region region, ConcurrentMap<K, CompletableFuture<V>> cache, K key, V value, long weight) {
+        cache.put(key, CompletableFuture.completedFuture(value));
+        track(region, key, weight);
+    }
+
+    private void hit(Region region, Object key) {
+        hits.increment();
+        if (config.isBounded() && recentHitCount.get() < HIT_BUFFER_CAPACITY) {
+            recentHitCount.incrementAndGet();
+            recentHits.offer(new Entry(region, key));
+        }
+    }
+
+    /**
+     * Moves buffered hits to the most recently used end of {@link #usage}. Entries removed meanwhile are
+     * skipped, as access-ordered lookups of absent keys change nothing. Caller holds the lock.
+     */
+    private void drainHits() {
+        Entry hit;
+        while ((hit = recentHits.poll()) != null) {
+            recentHitCount.decrementAndGet();
+            usage.get(hit);
+        }
+    }
+
+    private synchronized void track(Region region, Object key, long entryWeight) {
+        Long previous = usage.put(new Entry(region, key), entryWeight);
+        weight += entryWeight - (previous == null ? 0 : previous);
+    }
+
+    private <K, V> void discard(Region region, ConcurrentMap<K, CompletableFuture<V>> cache, K key,
+                                CompletableFuture<V> future) {
+        if (cache.remove(key, future)) {
+            synchronized (this) {
+                Long previous = usage.remove(new Entry(region, key));
+                if (previous != null) weight -= previous;
+            }
+        }
+    }
+
+    /**
+     * Drops least recently used entries until the budget is met. Caller holds the lock.
+     */
+    private void evictIfNeeded() {
+        drainHits();
+        Iterator<Map.Entry<Entry, Long>> eldest = usage.entrySet().iterator();
+        while (eldest.hasNext() && (usage.size() > config.getMaxEntries() || weight > config.getMaxWeightBytes())) {
+            Map.Entry<Entry, Long> victim = eldest.next();
+            eldest.remove();
+            weight -= victim.getValue();
+            evictions++;
+            mapFor(victim.getKey().region()).remove(victim.getKey().key());
+            dropDerivedIndexes(victim.getKey());
+        }
+    }
+
+    private void dropDerivedIndexes(Entry evicted) {
+        int pageNumber;
+        if (evicted.key() instanceof PageSnapshotKey) {
+            pageNumber = ((PageSnapshotKey) evicted.key()).pageNumber();
+        } else if (evicted.key() instanceof TypedPageSnapshotKey) {
+            pageNumber = ((TypedPageSnapshotKey) evicted.key()).pageNumber();
+        } else {
+            pageNumber = WHOLE_DOCUMENT;
+        }
+        derivedIndexes.keySet().removeIf(key -> key.pageNumber() == pageNumber);
+    }
+
+    private ConcurrentMap<?, ?> mapFor(Region region) {
+        switch (region) {
+            case DOCUMENT:
+                return documentSnapshotCache;
+            case PAGE:
+                return pageSnapshotCache;
+            case TYPED_DOCUMENT:
+                return typedDocumentSnapshotCache;
+            default:
+                return typedPageSnapshotCache;
+        }
+    }
+
+    private static long weigh(DocumentSnapshot snapshot) {
+        long bytes = SNAPSHOT_OVERHEAD_BYTES + sizeOf(snapshot.fonts()) * FONT_BYTES;
+        if (snapshot.pages() != null) {
+            for (PageSnapshot page : snapshot.pages()) bytes += weigh(page);
+        }
+        return bytes;
+    }
+
+    private static long weigh(PageSnapshot page) {
+        return PAGE_OVERHEAD_BYTES + sizeOf(page.fonts()) * FONT_BYTES + weighElements(page.elements());
+    }
+
+    private static long weigh(TypedDocumentSnapshot<?> snapshot) {
+        long bytes = SNAPSHOT_OVERHEAD_BYTES + sizeOf(snapshot.getFonts()) * FONT_BYTES;
+        if (snapshot.getPages() != null) {
+            for (TypedPageSnapshot<?> page : snapshot.getPages()) bytes += weigh(page);
+        }
+        return bytes;
+    }
+
+    private static long weigh(TypedPageSnapshot<?> page) {
+        return PAGE_OVERHEAD_BYTES + weighElements(page.getElements());
+    }
+
+    private static long weighElements(List<? extends ObjectRef> elements) {
+        if (elements == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (ObjectRef element : elements) {
+            bytes += ELEMENT_BYTES;
+            if (element instanceof FormFieldRef) {
+                FormFieldRef field = (FormFieldRef) element;
+                bytes += 2L * (lengthOf(field.getName()) + lengthOf(field.getValue()));
+            }
+        }
+        return bytes;
+    }
+
+    private static int sizeOf(Collection<?> collection) {
+        return collection == null ? 0 : collection.size();
+    }
+
+    private static int lengthOf(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private synchronized long currentEpoch() {
+        return epoch;
+    }
+
+    private static boolean isPatchable(Set<Integer> stalePages, int pageCount) {
+        for (int pageNumber : stalePages) {
+            if (pageNumber < 1 || pageNumber > pageCount) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private enum Region {DOCUMENT, PAGE, TYPED_DOCUMENT, TYPED_PAGE}
+
+    private enum DerivedIndexKind {ELEMENTS, FORM_FIELDS, FORM_FIELD_NAMES, ELEMENT_IDS}
+
+    private record DerivedIndexKey(int pageNumber, DerivedIndexKind kind) {
+    }
+
+    private record Entry(Region region, Object key) {
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Waits for a cache future, rethrowing the original client exception rather than a CompletionException.
+     */
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
     }
 }
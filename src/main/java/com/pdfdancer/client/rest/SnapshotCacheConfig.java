@@ -0,0 +1,120 @@
+package com.pdfdancer.client.rest;
+
+/**
+ * Memory budget for the snapshot cache of a {@link PDFDancer} session.
+ * <p>
+ * The budget covers document, page and typed snapshots together. When either limit is exceeded the least
+ * recently used entries are evicted until the cache fits again. Weights are estimates derived from the
+ * number of pages, elements and fonts in a snapshot, not exact heap measurements.
+ * </p>
+ *
+ * <h3>Example Usage:</h3>
+ * <pre>{@code
+ * pdf.configureSnapshotCache(SnapshotCacheConfig.builder()
+ *     .maxEntries(500)
+ *     .maxWeightBytes(32L * 1024 * 1024)
+ *     .build());
+ * }</pre>
+ */
+public final class SnapshotCacheConfig {
+
+    private static final SnapshotCacheConfig UNBOUNDED = builder().build();
+
+    private final long maxEntries;
+    private final long maxWeightBytes;
+
+    private SnapshotCacheConfig(Builder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.maxWeightBytes = builder.maxWeightBytes;
+    }
+
+    /**
+     * Creates a configuration without limits; snapshots stay cached until a mutation invalidates them.
+     *
+     * @return an unbounded configuration
+     */
+    public static SnapshotCacheConfig unbounded() {
+        return UNBOUNDED;
+    }
+
+    /**
+     * Creates a new builder for constructing a SnapshotCacheConfig.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the maximum number of cached snapshots.
+     *
+     * @return the entry limit, or {@link Long#MAX_VALUE} when unlimited
+     */
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Gets the maximum estimated size of all cached snapshots in bytes.
+     *
+     * @return the weight limit, or {@link Long#MAX_VALUE} when unlimited
+     */
+    public long getMaxWeightBytes() {
+        return maxWeightBytes;
+    }
+
+    boolean isBounded() {
+        return maxEntries != Long.MAX_VALUE || maxWeightBytes != Long.MAX_VALUE;
+    }
+
+    /**
+     * Builder for constructing SnapshotCacheConfig instances.
+     */
+    public static final class Builder {
+        private long maxEntries = Long.MAX_VALUE;
+        private long maxWeightBytes = Long.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of cached snapshots.
+         *
+         * @param maxEntries the entry limit
+         * @return this builder
+         * @throws IllegalArgumentException if maxEntries is less than 1
+         */
+        public Builder maxEntries(long maxEntries) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be at least 1");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Sets the maximum estimated size of all cached snapshots.
+         *
+         * @param maxWeightBytes the weight limit in bytes
+         * @return this builder
+         * @throws IllegalArgumentException if maxWeightBytes is less than 1
+         */
+        public Builder maxWeightBytes(long maxWeightBytes) {
+            if (maxWeightBytes < 1) {
+                throw new IllegalArgumentException("maxWeightBytes must be at least 1");
+            }
+            this.maxWeightBytes = maxWeightBytes;
+            return this;
+        }
+
+        /**
+         * Builds the SnapshotCacheConfig instance.
+         *
+         * @return a new SnapshotCacheConfig
+         */
+        public SnapshotCacheConfig build() {
+            return new SnapshotCacheConfig(this);
+        }
+    }
+}
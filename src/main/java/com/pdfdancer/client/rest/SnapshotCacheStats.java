@@ -0,0 +1,69 @@
+package com.pdfdancer.client.rest;
+
+/**
+ * Point-in-time counters of a session's snapshot cache, as returned by {@link PDFDancer#getSnapshotCacheStats()}.
+ * Hits and misses count lookups of document, page and typed snapshots alike; concurrent lookups that wait
+ * on a load already in flight count as hits.
+ */
+public final class SnapshotCacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long entryCount;
+    private final long estimatedWeightBytes;
+
+    SnapshotCacheStats(long hitCount, long missCount, long evictionCount, long entryCount, long estimatedWeightBytes) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.entryCount = entryCount;
+        this.estimatedWeightBytes = estimatedWeightBytes;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return number of entries removed to stay within the {@link SnapshotCacheConfig} budget;
+     * invalidations after mutations are not counted
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return number of completed snapshots currently cached
+     */
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    public long getEstimatedWeightBytes() {
+        return estimatedWeightBytes;
+    }
+
+    /**
+     * @return fraction of lookups served from the cache, or 1.0 when nothing was looked up yet
+     */
+    public double hitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 1.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotCacheStats{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", entryCount=" + entryCount +
+                ", estimatedWeightBytes=" + estimatedWeightBytes +
+                '}';
+    }
+}
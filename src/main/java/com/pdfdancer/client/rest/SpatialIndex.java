@@ -0,0 +1,250 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.common.model.BoundingRect;
+import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.model.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Read-only R-tree over the bounding rectangles of a page's elements, bulk-loaded with
+ * Sort-Tile-Recursive packing. Point and region queries visit only the nodes whose bounds can match,
+ * and return hits in the order of the list the index was built from, exactly as a linear scan would.
+ * Elements without a bounding rectangle are never returned.
+ */
+final class SpatialIndex<T extends ObjectRef> {
+
+    private static final int NODE_CAPACITY = 16;
+
+    private final List<T> elements;
+    /**
+     * Level 0 holds one entry per indexed element, level {@code k} one entry per group of
+     * {@link #NODE_CAPACITY} consecutive entries of level {@code k - 1}.
+     */
+    private final double[][] minX;
+    private final double[][] minY;
+    private final double[][] maxX;
+    private final double[][] maxY;
+    /**
+     * Position in {@link #elements} of each level-0 entry.
+     */
+    private final int[] elementIndex;
+
+    private SpatialIndex(List<T> elements, int[] order, double[][] minX, double[][] minY,
+                         double[][] maxX, double[][] maxY) {
+        this.elements = elements;
+        this.elementIndex = order;
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    static <T extends ObjectRef> SpatialIndex<T> build(List<T> elements) {
+        List<T> source = elements == null ? List.of() : elements;
+        List<Integer> indexed = new ArrayList<>(source.size());
+        for (int i = 0; i < source.size(); i++) {
+            if (rectOf(source.get(i)) != null) {
+                indexed.add(i);
+            }
+        }
+        int[] order = packedOrder(source, indexed);
+        int count = order.length;
+
+        List<double[][]> levels = new ArrayList<>();
+        double[][] leaves = new double[4][count];
+        for (int i = 0; i < count; i++) {
+            BoundingRect rect = rectOf(source.get(order[i]));
+            leaves[0][i] = rect.getX();
+            leaves[1][i] = rect.getY();
+            leaves[2][i] = rect.getX() + rect.getWidth();
+            leaves[3][i] = rect.getY() + rect.getHeight();
+        }
+        levels.add(leaves);
+        while (levels.get(levels.size() - 1)[0].length > NODE_CAPACITY) {
+            levels.add(parentsOf(levels.get(levels.size() - 1)));
+        }
+
+        int height = levels.size();
+        double[][] minX = new double[height][];
+        double[][] minY = new double[height][];
+        double[][] maxX = new double[height][];
+        double[][] maxY = new double[height][];
+        for (int level = 0; level < height; level++) {
+            double[][] bounds = levels.get(level);
+            minX[level] = bounds[0];
+            minY[level] = bounds[1];
+            maxX[level] = bounds[2];
+            maxY[level] = bounds[3];
+        }
+        return new SpatialIndex<>(source, order, minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Sort-Tile-Recursive order: sorted by center x into vertical slices, each slice sorted by center y,
+     * so that consecutive runs of {@link #NODE_CAPACITY} entries form compact tiles.
+     */
+    private static int[] packedOrder(List<? extends ObjectRef> source, List<Integer> indexed) {
+        Integer[] order = indexed.toArray(new Integer[0]);
+        Comparator<Integer> byCenterX = Comparator.comparingDouble(i -> centerX(rectOf(source.get(i))));
+        Comparator<Integer> byCenterY = Comparator.comparingDouble(i -> centerY(rectOf(source.get(i))));
+        Arrays.sort(order, byCenterX);
+
+        int leafCount = (order.length + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceCount = (int) Math.ceil(Math.sqrt(leafCount));
+        int sliceSize = Math.max(1, sliceCount) * NODE_CAPACITY;
+        for (int from = 0; from < order.length; from += sliceSize) {
+            Arrays.sort(order, from, Math.min(order.length, from + sliceSize), byCenterY);
+        }
+        return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static double[][] parentsOf(double[][] children) {
+        int childCount = children[0].length;
+        int parentCount = (childCount + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        double[][] parents = new double[4][parentCount];
+        for (int parent = 0; parent < parentCount; parent++) {
+            int from = parent * NODE_CAPACITY;
+            int to = Math.min(childCount, from + NODE_CAPACITY);
+            double lowX = Double.POSITIVE_INFINITY;
+            double lowY = Double.POSITIVE_INFINITY;
+            double highX = Double.NEGATIVE_INFINITY;
+            double highY = Double.NEGATIVE_INFINITY;
+            for (int child = from; child < to; child++) {
+                lowX = Math.min(lowX, children[0][child]);
+                lowY = Math.min(lowY, children[1][child]);
+                highX = Math.max(highX, children[2][child]);
+                highY = Math.max(highY, children[3][child]);
+            }
+            parents[0][parent] = lowX;
+            parents[1][parent] = lowY;
+            parents[2][parent] = highX;
+            parents[3][parent] = highY;
+        }
+        return parents;
+    }
+
+    int size() {
+        return elementIndex.length;
+    }
+
+    /**
+     * Elements whose bounding rectangle, grown by {@code epsilon} on every side, contains the point.
+     * Matches {@link com.pdfdancer.client.rest.selection.SelectionService#containsPoint}.
+     */
+    List<T> containing(double x, double y, double epsilon) {
+        return collect(new Query() {
+            @Override
+            public boolean visit(double lowX, double lowY, double highX, double highY) {
+                return x >= lowX - epsilon && x <= highX + epsilon && y >= lowY - epsilon && y <= highY + epsilon;
+            }
+
+            @Override
+            public boolean matches(double lowX, double lowY, double highX, double highY) {
+                return visit(lowX, lowY, highX, highY);
+            }
+        });
+    }
+
+    /**
+     * Elements that intersect {@code region} ({@link Position.PositionMode#INTERSECT}) or lie completely
+     * inside it ({@link Position.PositionMode#CONTAINS}). Edges touching count in both modes.
+     */
+    List<T> within(BoundingRect region, Position.PositionMode mode) {
+        double regionLowX = region.getX();
+        double regionLowY = region.getY();
+        double regionHighX = region.getX() + region.getWidth();
+        double regionHighY = region.getY() + region.getHeight();
+        boolean contains = mode == Position.PositionMode.CONTAINS;
+        return collect(new Query() {
+            @Override
+            public boolean visit(double lowX, double lowY, double highX, double highY) {
+                return lowX <= regionHighX && highX >= regionLowX && lowY <= regionHighY && highY >= regionLowY;
+            }
+
+            @Override
+            public boolean matches(double lowX, double lowY, double highX, double highY) {
+                if (contains) {
+                    return lowX >= regionLowX && highX <= regionHighX && lowY >= regionLowY && highY <= regionHighY;
+                }
+                return visit(lowX, lowY, highX, highY);
+            }
+        });
+    }
+
+    private List<T> collect(Query query) {
+        if (elementIndex.length == 0) {
+            return List.of();
+        }
+        int[] hits = new int[Math.min(elementIndex.length, 64)];
+        int hitCount = 0;
+        int top = minX.length - 1;
+        // Explicit stack of (level, entry) pairs.
+        int[] stack = new int[2 * (NODE_CAPACITY * minX.length + 1)];
+        int depth = 0;
+        for (int entry = minX[top].length - 1; entry >= 0; entry--) {
+            stack[depth++] = top;
+            stack[depth++] = entry;
+        }
+        while (depth > 0) {
+            int entry = stack[--depth];
+            int level = stack[--depth];
+            double lowX = minX[level][entry];
+            double lowY = minY[level][entry];
+            double highX = maxX[level][entry];
+            double highY = maxY[level][entry];
+            if (level == 0) {
+                if (query.matches(lowX, lowY, highX, highY)) {
+                    if (hitCount == hits.length) {
+                        hits = Arrays.copyOf(hits, hits.length * 2);
+                    }
+                    hits[hitCount++] = elementIndex[entry];
+                }
+                continue;
+            }
+            if (!query.visit(lowX, lowY, highX, highY)) {
+                continue;
+            }
+            int from = entry * NODE_CAPACITY;
+            int to = Math.min(minX[level - 1].length, from + NODE_CAPACITY);
+            for (int child = to - 1; child >= from; child--) {
+                stack[depth++] = level - 1;
+                stack[depth++] = child;
+            }
+        }
+        Arrays.sort(hits, 0, hitCount);
+        List<T> results = new ArrayList<>(hitCount);
+        for (int i = 0; i < hitCount; i++) {
+            results.add(elements.get(hits[i]));
+        }
+        return results;
+    }
+
+    private static BoundingRect rectOf(ObjectRef ref) {
+        if (ref == null) {
+            return null;
+        }
+        Position position = ref.getPosition();
+        return position == null ? null : position.getBoundingRect();
+    }
+
+    private static double centerX(BoundingRect rect) {
+        return rect.getX() + rect.getWidth() / 2;
+    }
+
+    private static double centerY(BoundingRect rect) {
+        return rect.getY() + rect.getHeight() / 2;
+    }
+
+    /**
+     * {@code visit} decides whether a node's bounds may contain matches, {@code matches} whether an element's do.
+     */
+    private interface Query {
+        boolean visit(double lowX, double lowY, double highX, double highY);
+
+        boolean matches(double lowX, double lowY, double highX, double highY);
+    }
+}
@@ -6,6 +6,8 @@ import com.pdfdancer.common.request.TextReplaceRequest;
 import com.pdfdancer.common.request.TextStyleRequest;
 import com.pdfdancer.common.response.TextEditResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 public class TextClient {
     private final PDFDancer root;
 
@@ -17,15 +19,31 @@ public class TextClient {
         return root.replaceText(request);
     }
 
+    public CompletableFuture<TextEditResponse> replaceAsync(TextReplaceRequest request) {
+        return root.replaceTextAsync(request);
+    }
+
     public TextEditResponse delete(TextDeleteRequest request) {
         return root.deleteText(request);
     }
 
+    public CompletableFuture<TextEditResponse> deleteAsync(TextDeleteRequest request) {
+        return root.deleteTextAsync(request);
+    }
+
     public TextEditResponse insert(TextInsertRequest request) {
         return root.insertText(request);
     }
 
+    public CompletableFuture<TextEditResponse> insertAsync(TextInsertRequest request) {
+        return root.insertTextAsync(request);
+    }
+
     public TextEditResponse style(TextStyleRequest request) {
         return root.styleText(request);
     }
+
+    public CompletableFuture<TextEditResponse> styleAsync(TextStyleRequest request) {
+        return root.styleTextAsync(request);
+    }
 }
@@ -0,0 +1,260 @@
+package com.pdfdancer.client.rest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Configuration for request timeouts and the overall deadline of an operation.
+ * <p>
+ * Every request gets the default timeout unless an endpoint rule matches it. Rules are tried in the order
+ * they were added and the first match wins; paths are matched without the API version prefix and query, and
+ * a {@code *} or {@code {name}} segment matches any single path segment, so {@code /session/{id}/pdf} covers
+ * every session download. A size-scaled allowance can be added on top for requests whose body length is known
+ * up front, such as uploads.
+ * </p>
+ * <p>
+ * The operation deadline bounds one {@code retrieve} or {@code stream} call including all retry attempts and
+ * back-off delays. Attempts are shortened to the remaining time, and a retry is abandoned if its back-off
+ * delay would not leave any time to send it.
+ * </p>
+ *
+ * <h3>Example Usage:</h3>
+ * <pre>{@code
+ * TimeoutConfig timeouts = TimeoutConfig.builder()
+ *     .requestTimeout(Duration.ofSeconds(5))
+ *     .endpoint("GET", "/session/{id}/pdf", Duration.ofMinutes(10))
+ *     .endpoint("/session/create", Duration.ofSeconds(60))
+ *     .perMegabyte(Duration.ofSeconds(2))
+ *     .operationDeadline(Duration.ofSeconds(30))
+ *     .build();
+ * }</pre>
+ */
+public final class TimeoutConfig {
+
+    public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final long MEGABYTE = 1024L * 1024L;
+    private static final TimeoutConfig DEFAULT = builder().build();
+
+    private final Duration requestTimeout;
+    private final List<EndpointTimeout> endpoints;
+    private final Duration perMegabyte;
+    private final Duration operationDeadline;
+
+    private TimeoutConfig(Builder builder) {
+        this.requestTimeout = builder.requestTimeout;
+        this.endpoints = List.copyOf(builder.endpoints);
+        this.perMegabyte = builder.perMegabyte;
+        this.operationDeadline = builder.operationDeadline;
+    }
+
+    /**
+     * Creates the default configuration: {@link #DEFAULT_REQUEST_TIMEOUT} per request and no operation deadline.
+     *
+     * @return the default TimeoutConfig
+     */
+    public static TimeoutConfig defaultConfig() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a new builder for constructing a TimeoutConfig.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the timeout of requests no endpoint rule matches.
+     *
+     * @return the default request timeout
+     */
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    /**
+     * Gets the extra time allowed per started megabyte of a request body of known length.
+     *
+     * @return the per-megabyte allowance, {@link Duration#ZERO} if requests are not scaled by size
+     */
+    public Duration getPerMegabyte() {
+        return perMegabyte;
+    }
+
+    /**
+     * Gets the deadline spanning all attempts of one operation.
+     *
+     * @return the operation deadline, or {@code null} if attempts are only bounded by their request timeout
+     */
+    public Duration getOperationDeadline() {
+        return operationDeadline;
+    }
+
+    /**
+     * Resolves the timeout of a single request attempt.
+     *
+     * @param method     the HTTP method
+     * @param path       the request path relative to the API version prefix, without query, as returned by
+     *                   {@link PdfDancerHttpClient#unversionedPath(String)}
+     * @param bodyLength the request body length in bytes, or a negative value if unknown
+     */
+    Duration timeoutFor(String method, String path, long bodyLength) {
+        Duration timeout = requestTimeout;
+        String[] segments = segments(path);
+        for (EndpointTimeout endpoint : endpoints) {
+            if (endpoint.matches(method, segments)) {
+                timeout = endpoint.timeout;
+                break;
+            }
+        }
+        if (bodyLength > 0 && !perMegabyte.isZero()) {
+            long megabytes = (bodyLength + MEGABYTE - 1) / MEGABYTE;
+            timeout = timeout.plus(perMegabyte.multipliedBy(megabytes));
+        }
+        return timeout;
+    }
+
+    private static String[] segments(String path) {
+        return path.replaceAll("^/+|/+$", "").split("/+");
+    }
+
+    private static final class EndpointTimeout {
+        private final String method;
+        private final String[] pattern;
+        private final Duration timeout;
+
+        private EndpointTimeout(String method, String pattern, Duration timeout) {
+            this.method = method;
+            this.pattern = segments(PdfDancerHttpClient.unversionedPath(pattern));
+            this.timeout = timeout;
+        }
+
+        boolean matches(String requestMethod, String[] path) {
+            if (method != null && !method.equalsIgnoreCase(requestMethod)) {
+                return false;
+            }
+            if (path.length != pattern.length) {
+                return false;
+            }
+            for (int i = 0; i < pattern.length; i++) {
+                if (!isWildcard(pattern[i]) && !pattern[i].equals(path[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isWildcard(String segment) {
+            return segment.equals("*") || (segment.startsWith("{") && segment.endsWith("}"));
+        }
+    }
+
+    /**
+     * Builder for constructing TimeoutConfig instances.
+     */
+    public static final class Builder {
+        private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+        private final List<EndpointTimeout> endpoints = new ArrayList<>();
+        private Duration perMegabyte = Duration.ZERO;
+        private Duration operationDeadline;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the timeout of requests no endpoint rule matches.
+         *
+         * @param requestTimeout the default request timeout
+         * @return this builder
+         * @throws IllegalArgumentException if requestTimeout is not positive
+         */
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requirePositive(requestTimeout, "requestTimeout");
+            return this;
+        }
+
+        /**
+         * Sets the timeout of requests to a path for any HTTP method.
+         *
+         * @param pathPattern the path, where a {@code *} or {@code {name}} segment matches any single segment
+         * @param timeout     the request timeout
+         * @return this builder
+         */
+        public Builder endpoint(String pathPattern, Duration timeout) {
+            return addEndpoint(null, pathPattern, timeout);
+        }
+
+        /**
+         * Sets the timeout of requests with the given HTTP method to a path.
+         *
+         * @param method      the HTTP method, such as {@code GET}
+         * @param pathPattern the path, where a {@code *} or {@code {name}} segment matches any single segment
+         * @param timeout     the request timeout
+         * @return this builder
+         */
+        public Builder endpoint(String method, String pathPattern, Duration timeout) {
+            Objects.requireNonNull(method, "method");
+            return addEndpoint(method.toUpperCase(Locale.ROOT), pathPattern, timeout);
+        }
+
+        private Builder addEndpoint(String method, String pathPattern, Duration timeout) {
+            Objects.requireNonNull(pathPattern, "pathPattern");
+            endpoints.add(new EndpointTimeout(method, pathPattern, requirePositive(timeout, "timeout")));
+            return this;
+        }
+
+        /**
+         * Sets the extra time allowed per started megabyte of request body, on top of the endpoint or default
+         * timeout. Only applies to bodies whose length is known before sending.
+         *
+         * @param perMegabyte the per-megabyte allowance
+         * @return this builder
+         * @throws IllegalArgumentException if perMegabyte is negative
+         */
+        public Builder perMegabyte(Duration perMegabyte) {
+            Objects.requireNonNull(perMegabyte, "perMegabyte");
+            if (perMegabyte.isNegative()) {
+                throw new IllegalArgumentException("perMegabyte must not be negative");
+            }
+            this.perMegabyte = perMegabyte;
+            return this;
+        }
+
+        /**
+         * Sets the deadline spanning all attempts and back-off delays of one operation.
+         *
+         * @param operationDeadline the deadline, or {@code null} for none
+         * @return this builder
+         * @throws IllegalArgumentException if operationDeadline is not positive
+         */
+        public Builder operationDeadline(Duration operationDeadline) {
+            this.operationDeadline = operationDeadline == null
+                    ? null
+                    : requirePositive(operationDeadline, "operationDeadline");
+            return this;
+        }
+
+        private static Duration requirePositive(Duration value, String name) {
+            Objects.requireNonNull(value, name);
+            if (value.isNegative() || value.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return value;
+        }
+
+        /**
+         * Builds the TimeoutConfig instance.
+         *
+         * @return a new TimeoutConfig
+         */
+        public TimeoutConfig build() {
+            return new TimeoutConfig(this);
+        }
+    }
+}
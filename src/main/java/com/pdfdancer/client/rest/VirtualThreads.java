@@ -0,0 +1,46 @@
+package com.pdfdancer.client.rest;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to virtual threads without requiring Java 21 at compile time. The client is built for Java 17, so
+ * the executor factory is looked up reflectively and is absent on older runtimes.
+ */
+final class VirtualThreads {
+
+    private static final Method NEW_PER_TASK_EXECUTOR = lookUp();
+
+    private VirtualThreads() {
+    }
+
+    private static Method lookUp() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    static boolean isSupported() {
+        return NEW_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task.
+     *
+     * @return the executor, or empty if the runtime has no virtual threads
+     */
+    static Optional<ExecutorService> newPerTaskExecutor() {
+        if (NEW_PER_TASK_EXECUTOR == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of((ExecutorService) NEW_PER_TASK_EXECUTOR.invoke(null));
+        } catch (ReflectiveOperationException e) {
+            throw new PdfDancerClientException("Failed to create virtual thread executor", e);
+        }
+    }
+}
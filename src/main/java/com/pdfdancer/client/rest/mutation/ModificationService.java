@@ -8,40 +8,49 @@ import com.pdfdancer.common.model.*;
 import com.pdfdancer.common.request.*;
 import com.pdfdancer.common.response.CommandResult;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Encapsulates all mutation HTTP operations. Stateless and reusable per session.
+ * Every operation is available in a blocking form and, when the service was created from a
+ * {@link PdfDancerHttpClient}, as an {@code *Async} variant returning a {@link CompletableFuture}.
  */
 public final class ModificationService {
     private final String token;
     private final String sessionId;
     private final PdfDancerHttpClient.Blocking blocking;
+    private final PdfDancerHttpClient.Async async;
 
     public ModificationService(String token, String sessionId, PdfDancerHttpClient.Blocking blocking) {
+        this(token, sessionId, blocking, null);
+    }
+
+    public ModificationService(String token, String sessionId, PdfDancerHttpClient client) {
+        this(token, sessionId, client.toBlocking(), client.toAsync());
+    }
+
+    private ModificationService(String token, String sessionId,
+                                PdfDancerHttpClient.Blocking blocking, PdfDancerHttpClient.Async async) {
         this.token = token;
         this.sessionId = sessionId;
         this.blocking = blocking;
+        this.async = async;
     }
 
     public Boolean move(ObjectRef objectRef, Position position) {
-        String path = "/pdf/move";
-        return blocking.retrieve(
-                HttpRequest.PUT(path, new MoveRequest(objectRef, position))
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                Boolean.class
-        );
+        return blocking.retrieve(moveRequest(objectRef, position), Boolean.class);
+    }
+
+    public CompletableFuture<Boolean> moveAsync(ObjectRef objectRef, Position position) {
+        return async().retrieve(moveRequest(objectRef, position), Boolean.class);
     }
 
     public Boolean clearClipping(ClearClippingRequest request) {
-        String path = "/pdf/clipping/clear";
-        return blocking.retrieve(
-                HttpRequest.PUT(path, request)
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                Boolean.class
-        );
+        return blocking.retrieve(clearClippingRequest(request), Boolean.class);
+    }
+
+    public CompletableFuture<Boolean> clearClippingAsync(ClearClippingRequest request) {
+        return async().retrieve(clearClippingRequest(request), Boolean.class);
     }
 
     public boolean addImage(Image image, Position position) {
@@ -58,140 +67,181 @@ public final class ModificationService {
     }
 
     public Boolean addObject(PDFObject object) {
-        String path = "/pdf/add";
-        MutableHttpRequest<AddRequest> request = HttpRequest.POST(path, new AddRequest(object))
-                .contentType(MediaType.APPLICATION_JSON_TYPE)
-                .bearerAuth(token)
-                .header("X-Session-Id", sessionId);
-        return blocking.retrieve(request, Boolean.class);
+        return blocking.retrieve(addObjectRequest(object), Boolean.class);
+    }
+
+    public CompletableFuture<Boolean> addObjectAsync(PDFObject object) {
+        return async().retrieve(addObjectRequest(object), Boolean.class);
     }
 
     public Boolean delete(ObjectRef objectRef) {
-        String path = "/pdf/delete";
-        return blocking.retrieve(
-                HttpRequest.DELETE(path, new DeleteRequest(objectRef))
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                Boolean.class
-        );
+        return blocking.retrieve(deleteRequest(objectRef), Boolean.class);
+    }
+
+    public CompletableFuture<Boolean> deleteAsync(ObjectRef objectRef) {
+        return async().retrieve(deleteRequest(objectRef), Boolean.class);
     }
 
     public Boolean deletePage(ObjectRef pageRef) {
-        String path = "/pdf/page/delete";
-        return blocking.retrieve(
-                HttpRequest.DELETE(path, pageRef)
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                Boolean.class
-        );
+        return blocking.retrieve(deletePageRequest(pageRef), Boolean.class);
+    }
+
+    public CompletableFuture<Boolean> deletePageAsync(ObjectRef pageRef) {
+        return async().retrieve(deletePageRequest(pageRef), Boolean.class);
     }
 
     public Boolean changeFormField(FormFieldRef objectRef, String value) {
-        String path = "/pdf/modify/formField";
-        MutableHttpRequest<ChangeFormFieldRequest> request = HttpRequest.PUT(path, new ChangeFormFieldRequest(objectRef, value))
-                .contentType(MediaType.APPLICATION_JSON_TYPE)
-                .bearerAuth(token)
-                .header("X-Session-Id", sessionId);
-        return blocking.retrieve(request, Boolean.class);
+        return blocking.retrieve(changeFormFieldRequest(objectRef, value), Boolean.class);
+    }
+
+    public CompletableFuture<Boolean> changeFormFieldAsync(FormFieldRef objectRef, String value) {
+        return async().retrieve(changeFormFieldRequest(objectRef, value), Boolean.class);
     }
 
     public CommandResult modifyPath(ObjectRef ref, Color strokeColor, Color fillColor) {
-        String path = "/pdf/modify/path";
-        MutableHttpRequest<ModifyPathRequest> request = HttpRequest.PUT(path, new ModifyPathRequest(ref, strokeColor, fillColor))
-                .contentType(MediaType.APPLICATION_JSON_TYPE)
-                .bearerAuth(token)
-                .header("X-Session-Id", sessionId);
-        return blocking.retrieve(request, CommandResult.class);
+        return blocking.retrieve(modifyPathRequest(ref, strokeColor, fillColor), CommandResult.class);
+    }
+
+    public CompletableFuture<CommandResult> modifyPathAsync(ObjectRef ref, Color strokeColor, Color fillColor) {
+        return async().retrieve(modifyPathRequest(ref, strokeColor, fillColor), CommandResult.class);
     }
 
     public PageRef addPage(AddPageRequest request) {
-        String path = "/pdf/page/add";
-        return blocking.retrieve(
-                HttpRequest.POST(path, request)
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                PageRef.class
-        );
+        return blocking.retrieve(addPageRequest(request), PageRef.class);
+    }
+
+    public CompletableFuture<PageRef> addPageAsync(AddPageRequest request) {
+        return async().retrieve(addPageRequest(request), PageRef.class);
     }
 
     public Boolean movePage(int fromPage, int toPage) {
-        String path = "/pdf/page/move";
-        return blocking.retrieve(
-                HttpRequest.PUT(path, java.util.Map.of("fromPage", fromPage, "toPage", toPage))
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                Boolean.class
-        );
+        return blocking.retrieve(movePageRequest(fromPage, toPage), Boolean.class);
+    }
+
+    public CompletableFuture<Boolean> movePageAsync(int fromPage, int toPage) {
+        return async().retrieve(movePageRequest(fromPage, toPage), Boolean.class);
     }
 
     public CommandResult transformImage(ImageTransformRequest request) {
-        String path = "/pdf/image/transform";
-        return blocking.retrieve(
-                HttpRequest.PUT(path, request)
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                CommandResult.class
-        );
+        return blocking.retrieve(transformImageRequest(request), CommandResult.class);
+    }
+
+    public CompletableFuture<CommandResult> transformImageAsync(ImageTransformRequest request) {
+        return async().retrieve(transformImageRequest(request), CommandResult.class);
     }
 
     public PathGroupInfo createPathGroup(CreatePathGroupRequest request) {
-        String path = "/pdf/path-group/create";
-        return blocking.retrieve(
-                HttpRequest.POST(path, request)
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                PathGroupInfo.class
-        );
+        return blocking.retrieve(createPathGroupRequest(request), PathGroupInfo.class);
+    }
+
+    public CompletableFuture<PathGroupInfo> createPathGroupAsync(CreatePathGroupRequest request) {
+        return async().retrieve(createPathGroupRequest(request), PathGroupInfo.class);
     }
 
     public Boolean movePathGroup(MovePathGroupRequest request) {
-        String path = "/pdf/path-group/move";
-        return blocking.retrieve(
-                HttpRequest.PUT(path, request)
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                Boolean.class
-        );
+        return blocking.retrieve(movePathGroupRequest(request), Boolean.class);
+    }
+
+    public CompletableFuture<Boolean> movePathGroupAsync(MovePathGroupRequest request) {
+        return async().retrieve(movePathGroupRequest(request), Boolean.class);
     }
 
     public Boolean transformPathGroup(TransformPathGroupRequest request) {
-        String path = "/pdf/path-group/transform";
-        return blocking.retrieve(
-                HttpRequest.PUT(path, request)
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                Boolean.class
-        );
+        return blocking.retrieve(transformPathGroupRequest(request), Boolean.class);
+    }
+
+    public CompletableFuture<Boolean> transformPathGroupAsync(TransformPathGroupRequest request) {
+        return async().retrieve(transformPathGroupRequest(request), Boolean.class);
     }
 
     public Boolean removePathGroup(RemovePathGroupRequest request) {
-        String path = "/pdf/path-group/remove";
-        return blocking.retrieve(
-                HttpRequest.DELETE(path, request)
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                Boolean.class
-        );
+        return blocking.retrieve(removePathGroupRequest(request), Boolean.class);
+    }
+
+    public CompletableFuture<Boolean> removePathGroupAsync(RemovePathGroupRequest request) {
+        return async().retrieve(removePathGroupRequest(request), Boolean.class);
     }
 
     public Boolean clearPathGroupClipping(ClearPathGroupClippingRequest request) {
-        String path = "/pdf/path-group/clipping/clear";
-        return blocking.retrieve(
-                HttpRequest.PUT(path, request)
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                Boolean.class
-        );
+        return blocking.retrieve(clearPathGroupClippingRequest(request), Boolean.class);
+    }
+
+    public CompletableFuture<Boolean> clearPathGroupClippingAsync(ClearPathGroupClippingRequest request) {
+        return async().retrieve(clearPathGroupClippingRequest(request), Boolean.class);
+    }
+
+    private PdfDancerHttpClient.Async async() {
+        if (async == null) {
+            throw new IllegalStateException("Async operations require a ModificationService created from a PdfDancerHttpClient");
+        }
+        return async;
+    }
+
+    private <T> MutableHttpRequest<T> session(MutableHttpRequest<T> request) {
+        return request
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .bearerAuth(token)
+                .header("X-Session-Id", sessionId);
+    }
+
+    private MutableHttpRequest<MoveRequest> moveRequest(ObjectRef objectRef, Position position) {
+        return session(HttpRequest.PUT("/pdf/move", new MoveRequest(objectRef, position)));
+    }
+
+    private MutableHttpRequest<ClearClippingRequest> clearClippingRequest(ClearClippingRequest request) {
+        return session(HttpRequest.PUT("/pdf/clipping/clear", request));
+    }
+
+    private MutableHttpRequest<AddRequest> addObjectRequest(PDFObject object) {
+        return session(HttpRequest.POST("/pdf/add", new AddRequest(object)));
+    }
+
+    private MutableHttpRequest<DeleteRequest> deleteRequest(ObjectRef objectRef) {
+        return session(HttpRequest.DELETE("/pdf/delete", new DeleteRequest(objectRef)));
+    }
+
+    private MutableHttpRequest<ObjectRef> deletePageRequest(ObjectRef pageRef) {
+        return session(HttpRequest.DELETE("/pdf/page/delete", pageRef));
+    }
+
+    private MutableHttpRequest<ChangeFormFieldRequest> changeFormFieldRequest(FormFieldRef objectRef, String value) {
+        return session(HttpRequest.PUT("/pdf/modify/formField", new ChangeFormFieldRequest(objectRef, value)));
+    }
+
+    private MutableHttpRequest<ModifyPathRequest> modifyPathRequest(ObjectRef ref, Color strokeColor, Color fillColor) {
+        return session(HttpRequest.PUT("/pdf/modify/path", new ModifyPathRequest(ref, strokeColor, fillColor)));
+    }
+
+    private MutableHttpRequest<AddPageRequest> addPageRequest(AddPageRequest request) {
+        return session(HttpRequest.POST("/pdf/page/add", request));
+    }
+
+    private MutableHttpRequest<java.util.Map<String, Integer>> movePageRequest(int fromPage, int toPage) {
+        return session(HttpRequest.PUT("/pdf/page/move", java.util.Map.of("fromPage", fromPage, "toPage", toPage)));
+    }
+
+    private MutableHttpRequest<ImageTransformRequest> transformImageRequest(ImageTransformRequest request) {
+        return session(HttpRequest.PUT("/pdf/image/transform", request));
+    }
+
+    private MutableHttpRequest<CreatePathGroupRequest> createPathGroupRequest(CreatePathGroupRequest request) {
+        return session(HttpRequest.POST("/pdf/path-group/create", request));
+    }
+
+    private MutableHttpRequest<MovePathGroupRequest> movePathGroupRequest(MovePathGroupRequest request) {
+        return session(HttpRequest.PUT("/pdf/path-group/move", request));
+    }
+
+    private MutableHttpRequest<TransformPathGroupRequest> transformPathGroupRequest(TransformPathGroupRequest request) {
+        return session(HttpRequest.PUT("/pdf/path-group/transform", request));
+    }
+
+    private MutableHttpRequest<RemovePathGroupRequest> removePathGroupRequest(RemovePathGroupRequest request) {
+        return session(HttpRequest.DELETE("/pdf/path-group/remove", request));
+    }
+
+    private MutableHttpRequest<ClearPathGroupClippingRequest> clearPathGroupClippingRequest(ClearPathGroupClippingRequest request) {
+        return session(HttpRequest.PUT("/pdf/path-group/clipping/clear", request));
     }
 
 }
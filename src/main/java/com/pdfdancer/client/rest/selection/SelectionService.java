@@ -8,9 +8,14 @@ import com.pdfdancer.common.response.DocumentSnapshot;
 import com.pdfdancer.common.response.PageSnapshot;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 public class SelectionService {
 
+    private static final String ALL_FORM_TYPES = Arrays.stream(Form.FormType.values())
+            .map(Enum::name)
+            .collect(Collectors.joining(","));
+
     public boolean containsPoint(ObjectRef ref, double x, double y, double epsilon) {
         Position position = ref.getPosition();
         if (position == null || position.getBoundingRect() == null) {
@@ -53,11 +58,19 @@ public class SelectionService {
         return results;
     }
 
+    /**
+     * Elements of the given types in snapshot order, as a new mutable list. A single type is copied from the
+     * snapshot's type index; several types are merged page by page, scanning only pages that hold more than one
+     * of them.
+     */
     public List<ObjectRef> collectObjectsByType(DocumentSnapshot snapshot, Set<ObjectType> types) {
-        List<ObjectRef> results = new ArrayList<>();
         if (snapshot == null || snapshot.pages() == null) {
-            return results;
+            return new ArrayList<>();
+        }
+        if (types.size() == 1) {
+            return new ArrayList<>(snapshot.elementsOfType(types.iterator().next()));
         }
+        List<ObjectRef> results = new ArrayList<>();
         for (PageSnapshot page : snapshot.pages()) {
             accumulateObjectsByType(results, page, types);
         }
@@ -65,6 +78,9 @@ public class SelectionService {
     }
 
     public List<ObjectRef> collectObjectsByType(PageSnapshot snapshot, Set<ObjectType> types) {
+        if (snapshot != null && types.size() == 1) {
+            return new ArrayList<>(snapshot.elementsOfType(types.iterator().next()));
+        }
         List<ObjectRef> results = new ArrayList<>();
         accumulateObjectsByType(results, snapshot, types);
         return results;
@@ -74,6 +90,21 @@ public class SelectionService {
         if (snapshot == null || snapshot.elements() == null) {
             return;
         }
+        ObjectType onlyType = null;
+        int present = 0;
+        for (ObjectType type : snapshot.elementTypes()) {
+            if (types.contains(type)) {
+                onlyType = type;
+                present++;
+            }
+        }
+        if (present == 0) {
+            return;
+        }
+        if (present == 1) {
+            target.addAll(snapshot.elementsOfType(onlyType));
+            return;
+        }
         for (ObjectRef element : snapshot.elements()) {
             if (element == null) {
                 continue;
@@ -110,11 +141,21 @@ public class SelectionService {
         return results;
     }
 
+    /**
+     * Collects all form fields with one combined-types snapshot, partitioned by type on the client.
+     * Falls back to one snapshot per {@link Form.FormType} only when the server reports fields without a
+     * concrete type, since the type filter is then the only way to tell them apart.
+     */
     public List<FormFieldRef> collectFormFieldRefsFromDocument(PDFDancer root) {
+        TypedDocumentSnapshot<FormFieldRef> snapshot = root.getTypedDocumentSnapshot(FormFieldRef.class, ALL_FORM_TYPES);
+        List<FormFieldRef> partitioned = partitionByFormType(flattenTypedDocument(snapshot, FormFieldRef.class));
+        if (partitioned != null) {
+            return partitioned;
+        }
         List<FormFieldRef> results = new ArrayList<>();
         for (Form.FormType filter : Form.FormType.values()) {
-            TypedDocumentSnapshot<FormFieldRef> snapshot = root.getTypedDocumentSnapshot(FormFieldRef.class, filter.name());
-            List<FormFieldRef> elements = flattenTypedDocument(snapshot, FormFieldRef.class);
+            TypedDocumentSnapshot<FormFieldRef> filtered = root.getTypedDocumentSnapshot(FormFieldRef.class, filter.name());
+            List<FormFieldRef> elements = flattenTypedDocument(filtered, FormFieldRef.class);
             elements.stream()
                     .map(ref -> adjustFormFieldType(ref, filter))
                     .filter(Objects::nonNull)
@@ -124,10 +165,15 @@ public class SelectionService {
     }
 
     public List<FormFieldRef> collectFormFieldRefsFromPage(PDFDancer root, int pageNumber) {
+        TypedPageSnapshot<FormFieldRef> snapshot = root.getTypedPageSnapshot(pageNumber, FormFieldRef.class, ALL_FORM_TYPES);
+        List<FormFieldRef> partitioned = partitionByFormType(getTypedElements(snapshot, FormFieldRef.class));
+        if (partitioned != null) {
+            return partitioned;
+        }
         List<FormFieldRef> results = new ArrayList<>();
         for (Form.FormType filter : Form.FormType.values()) {
-            TypedPageSnapshot<FormFieldRef> snapshot = root.getTypedPageSnapshot(pageNumber, FormFieldRef.class, filter.name());
-            List<FormFieldRef> elements = getTypedElements(snapshot, FormFieldRef.class);
+            TypedPageSnapshot<FormFieldRef> filtered = root.getTypedPageSnapshot(pageNumber, FormFieldRef.class, filter.name());
+            List<FormFieldRef> elements = getTypedElements(filtered, FormFieldRef.class);
             elements.stream()
                     .map(ref -> adjustFormFieldType(ref, filter))
                     .filter(Objects::nonNull)
@@ -136,6 +182,38 @@ public class SelectionService {
         return results;
     }
 
+    /**
+     * Groups fields by their form type, in {@link Form.FormType} order as the per-type queries returned them,
+     * or returns {@code null} if any field's type is not a concrete form type.
+     */
+    private List<FormFieldRef> partitionByFormType(List<FormFieldRef> elements) {
+        Map<Form.FormType, List<FormFieldRef>> byType = new EnumMap<>(Form.FormType.class);
+        for (FormFieldRef ref : elements) {
+            if (ref == null) {
+                continue;
+            }
+            Form.FormType formType = formTypeOf(ref.getType());
+            if (formType == null) {
+                return null;
+            }
+            byType.computeIfAbsent(formType, ignored -> new ArrayList<>()).add(adjustFormFieldType(ref, formType));
+        }
+        List<FormFieldRef> results = new ArrayList<>(elements.size());
+        byType.values().forEach(results::addAll);
+        return results;
+    }
+
+    private static Form.FormType formTypeOf(ObjectType type) {
+        if (type == null) {
+            return null;
+        }
+        try {
+            return Form.FormType.valueOf(type.name());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
     public FormFieldRef adjustFormFieldType(FormFieldRef ref, Form.FormType filter) {
         if (ref == null) {
             return null;
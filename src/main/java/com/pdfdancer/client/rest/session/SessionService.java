@@ -2,6 +2,7 @@ package com.pdfdancer.client.rest.session;
 
 import com.pdfdancer.client.http.HttpRequest;
 import com.pdfdancer.client.http.MediaType;
+import com.pdfdancer.client.http.MultipartBody;
 import com.pdfdancer.client.http.MutableHttpRequest;
 import com.pdfdancer.client.rest.AnonTokenResponse;
 import com.pdfdancer.client.rest.EnvironmentInfo;
@@ -10,6 +11,8 @@ import com.pdfdancer.common.model.Orientation;
 import com.pdfdancer.common.model.PageSize;
 import com.pdfdancer.common.request.CreateBlankPdfRequest;
 
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Session lifecycle utilities: issuing anonymous token and creating sessions.
@@ -26,27 +29,62 @@ public final class SessionService {
     }
 
     public static String uploadPdfForSession(String token, byte[] pdf, PdfDancerHttpClient client) {
-        com.pdfdancer.client.http.MultipartBody body = com.pdfdancer.client.http.MultipartBody.builder()
-                .addPart("pdf", "test.pdf", MediaType.APPLICATION_PDF_TYPE, pdf)
-                .build();
-        return client.toBlocking().retrieve(
-                HttpRequest.POST("/session/create", body)
-                        .contentType(MediaType.MULTIPART_FORM_DATA_TYPE)
-                        .bearerAuth(token),
-                String.class
-        );
+        return client.toBlocking().retrieve(uploadRequest(token, pdf), String.class);
+    }
+
+    public static CompletableFuture<String> uploadPdfForSessionAsync(String token, byte[] pdf, PdfDancerHttpClient client) {
+        return client.toAsync().retrieve(uploadRequest(token, pdf), String.class);
+    }
+
+    /**
+     * Uploads a PDF straight from disk. The file is streamed into the request body,
+     * so memory use does not grow with the document size.
+     */
+    public static String uploadPdfForSession(String token, Path pdf, PdfDancerHttpClient client) {
+        return client.toBlocking().retrieve(uploadRequest(token, pdf), String.class);
+    }
+
+    public static CompletableFuture<String> uploadPdfForSessionAsync(String token, Path pdf, PdfDancerHttpClient client) {
+        return client.toAsync().retrieve(uploadRequest(token, pdf), String.class);
     }
 
     public static String createBlankPdfSession(String token, PageSize pageSize,
                                                Orientation orientation,
                                                int initialPageCount,
                                                PdfDancerHttpClient client) {
-        return client.toBlocking().retrieve(
-                HttpRequest.POST("/session/new",
-                                new CreateBlankPdfRequest(pageSize, orientation, initialPageCount))
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token),
-                String.class
-        );
+        return client.toBlocking().retrieve(blankPdfRequest(token, pageSize, orientation, initialPageCount), String.class);
+    }
+
+    public static CompletableFuture<String> createBlankPdfSessionAsync(String token, PageSize pageSize,
+                                                                       Orientation orientation,
+                                                                       int initialPageCount,
+                                                                       PdfDancerHttpClient client) {
+        return client.toAsync().retrieve(blankPdfRequest(token, pageSize, orientation, initialPageCount), String.class);
+    }
+
+    private static MutableHttpRequest<MultipartBody> uploadRequest(String token, byte[] pdf) {
+        return uploadRequest(token, new MultipartBody.Part("pdf", "test.pdf", MediaType.APPLICATION_PDF_TYPE, pdf));
+    }
+
+    private static MutableHttpRequest<MultipartBody> uploadRequest(String token, Path pdf) {
+        return uploadRequest(token, MultipartBody.Part.forFile("pdf", "test.pdf", MediaType.APPLICATION_PDF_TYPE, pdf));
+    }
+
+    private static MutableHttpRequest<MultipartBody> uploadRequest(String token, MultipartBody.Part pdf) {
+        MultipartBody body = MultipartBody.builder()
+                .addPart(pdf)
+                .build();
+        return HttpRequest.POST("/session/create", body)
+                .contentType(MediaType.MULTIPART_FORM_DATA_TYPE)
+                .bearerAuth(token);
+    }
+
+    private static MutableHttpRequest<CreateBlankPdfRequest> blankPdfRequest(String token, PageSize pageSize,
+                                                                            Orientation orientation,
+                                                                            int initialPageCount) {
+        return HttpRequest.POST("/session/new",
+                        new CreateBlankPdfRequest(pageSize, orientation, initialPageCount))
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .bearerAuth(token);
     }
 }
@@ -2,6 +2,7 @@ package com.pdfdancer.client.rest.text;
 
 import com.pdfdancer.client.http.HttpRequest;
 import com.pdfdancer.client.http.MediaType;
+import com.pdfdancer.client.http.MutableHttpRequest;
 import com.pdfdancer.client.rest.PdfDancerHttpClient;
 import com.pdfdancer.common.request.TextDeleteRequest;
 import com.pdfdancer.common.request.TextInsertRequest;
@@ -10,59 +11,81 @@ import com.pdfdancer.common.request.TextStyleRequest;
 import com.pdfdancer.common.response.TextEditResponse;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 public final class TextEditingService {
     private final String token;
     private final String sessionId;
     private final PdfDancerHttpClient.Blocking blocking;
+    private final PdfDancerHttpClient.Async async;
 
     public TextEditingService(String token, String sessionId, PdfDancerHttpClient.Blocking blocking) {
+        this(token, sessionId, blocking, null);
+    }
+
+    public TextEditingService(String token, String sessionId, PdfDancerHttpClient client) {
+        this(token, sessionId, client.toBlocking(), client.toAsync());
+    }
+
+    private TextEditingService(String token, String sessionId,
+                               PdfDancerHttpClient.Blocking blocking, PdfDancerHttpClient.Async async) {
         this.token = token;
         this.sessionId = sessionId;
         this.blocking = blocking;
+        this.async = async;
     }
 
     public TextEditResponse replace(TextReplaceRequest request) {
         Objects.requireNonNull(request, "request");
-        return blocking.retrieve(
-                HttpRequest.POST("/pdf/text/replace", request.validated())
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                TextEditResponse.class
-        );
+        return blocking.retrieve(textRequest("/pdf/text/replace", request.validated()), TextEditResponse.class);
+    }
+
+    public CompletableFuture<TextEditResponse> replaceAsync(TextReplaceRequest request) {
+        Objects.requireNonNull(request, "request");
+        return async().retrieve(textRequest("/pdf/text/replace", request.validated()), TextEditResponse.class);
     }
 
     public TextEditResponse delete(TextDeleteRequest request) {
         Objects.requireNonNull(request, "request");
-        return blocking.retrieve(
-                HttpRequest.POST("/pdf/text/delete", request.validated())
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                TextEditResponse.class
-        );
+        return blocking.retrieve(textRequest("/pdf/text/delete", request.validated()), TextEditResponse.class);
+    }
+
+    public CompletableFuture<TextEditResponse> deleteAsync(TextDeleteRequest request) {
+        Objects.requireNonNull(request, "request");
+        return async().retrieve(textRequest("/pdf/text/delete", request.validated()), TextEditResponse.class);
     }
 
     public TextEditResponse insert(TextInsertRequest request) {
         Objects.requireNonNull(request, "request");
-        return blocking.retrieve(
-                HttpRequest.POST("/pdf/text/insert", request.validated())
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                TextEditResponse.class
-        );
+        return blocking.retrieve(textRequest("/pdf/text/insert", request.validated()), TextEditResponse.class);
+    }
+
+    public CompletableFuture<TextEditResponse> insertAsync(TextInsertRequest request) {
+        Objects.requireNonNull(request, "request");
+        return async().retrieve(textRequest("/pdf/text/insert", request.validated()), TextEditResponse.class);
     }
 
     public TextEditResponse style(TextStyleRequest request) {
         Objects.requireNonNull(request, "request");
-        return blocking.retrieve(
-                HttpRequest.POST("/pdf/text/style", request.validated())
-                        .contentType(MediaType.APPLICATION_JSON_TYPE)
-                        .bearerAuth(token)
-                        .header("X-Session-Id", sessionId),
-                TextEditResponse.class
-        );
+        return blocking.retrieve(textRequest("/pdf/text/style", request.validated()), TextEditResponse.class);
+    }
+
+    public CompletableFuture<TextEditResponse> styleAsync(TextStyleRequest request) {
+        Objects.requireNonNull(request, "request");
+        return async().retrieve(textRequest("/pdf/text/style", request.validated()), TextEditResponse.class);
+    }
+
+    private PdfDancerHttpClient.Async async() {
+        if (async == null) {
+            throw new IllegalStateException("Async operations require a TextEditingService created from a PdfDancerHttpClient");
+        }
+        return async;
+    }
+
+    private <T> MutableHttpRequest<T> textRequest(String path, T body) {
+        return HttpRequest.POST(path, body)
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .bearerAuth(token)
+                .header("X-Session-Id", sessionId);
     }
 }
@@ -3,8 +3,14 @@ package com.pdfdancer.common.response;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.pdfdancer.common.model.DocumentFontInfoDto;
+import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.model.ObjectType;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a complete snapshot of a PDF document including metadata and all pages.
@@ -14,6 +20,11 @@ public class DocumentSnapshot {
     private final int pageCount;
     private final List<DocumentFontInfoDto> fonts;
     private final List<PageSnapshot> pages;
+    /**
+     * Elements of each type across all pages, merged from the page indexes on first use. The index is
+     * immutable once published; concurrent first calls may each build it, with identical results.
+     */
+    private volatile Map<ObjectType, List<ObjectRef>> elementsByType;
 
     @JsonCreator
     public DocumentSnapshot(@JsonProperty("pageCount") int pageCount,
@@ -35,4 +46,35 @@ public class DocumentSnapshot {
     public List<PageSnapshot> pages() {
         return pages;
     }
+
+    /**
+     * Returns the elements of the given type across all pages, in page and snapshot order.
+     * The lists are assembled from the per-page indexes once and reused afterwards.
+     *
+     * @param type the element type
+     * @return an unmodifiable list, empty if the document has no such elements
+     */
+    public List<ObjectRef> elementsOfType(ObjectType type) {
+        return elementsByType().getOrDefault(type, Collections.emptyList());
+    }
+
+    private Map<ObjectType, List<ObjectRef>> elementsByType() {
+        Map<ObjectType, List<ObjectRef>> index = elementsByType;
+        if (index == null) {
+            Map<ObjectType, List<ObjectRef>> merged = new EnumMap<>(ObjectType.class);
+            if (pages != null) {
+                for (PageSnapshot page : pages) {
+                    if (page != null) {
+                        for (ObjectType type : page.elementTypes()) {
+                            merged.computeIfAbsent(type, ignored -> new ArrayList<>()).addAll(page.elementsOfType(type));
+                        }
+                    }
+                }
+            }
+            merged.replaceAll((type, list) -> Collections.unmodifiableList(list));
+            index = Collections.unmodifiableMap(merged);
+            elementsByType = index;
+        }
+        return index;
+    }
 }
@@ -4,9 +4,15 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.pdfdancer.common.model.DocumentFontInfoDto;
 import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.model.ObjectType;
 import com.pdfdancer.common.model.PageRef;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Represents a complete snapshot of a single PDF page including its metadata and all elements.
@@ -18,6 +24,11 @@ public class PageSnapshot {
     private final PageRef pageRef;
     private final List<ObjectRef> elements;
     private final List<DocumentFontInfoDto> fonts;
+    /**
+     * Elements grouped by type, built on first use. Snapshots are not modified once read, so the index
+     * never goes stale; concurrent first calls may each build it, with identical results.
+     */
+    private volatile Map<ObjectType, List<ObjectRef>> elementsByType;
 
     @JsonCreator
     public PageSnapshot(@JsonProperty("pageRef") PageRef pageRef,
@@ -39,4 +50,40 @@ public class PageSnapshot {
     public List<DocumentFontInfoDto> fonts() {
         return fonts;
     }
+
+    /**
+     * Returns this page's elements of the given type in snapshot order, without scanning the page
+     * after the first call.
+     *
+     * @param type the element type
+     * @return an unmodifiable list, empty if the page has no such elements
+     */
+    public List<ObjectRef> elementsOfType(ObjectType type) {
+        return elementsByType().getOrDefault(type, Collections.emptyList());
+    }
+
+    /**
+     * @return the element types present on this page, in {@link ObjectType} order
+     */
+    public Set<ObjectType> elementTypes() {
+        return elementsByType().keySet();
+    }
+
+    private Map<ObjectType, List<ObjectRef>> elementsByType() {
+        Map<ObjectType, List<ObjectRef>> index = elementsByType;
+        if (index == null) {
+            Map<ObjectType, List<ObjectRef>> grouped = new EnumMap<>(ObjectType.class);
+            if (elements != null) {
+                for (ObjectRef element : elements) {
+                    if (element != null && element.getType() != null) {
+                        grouped.computeIfAbsent(element.getType(), ignored -> new ArrayList<>()).add(element);
+                    }
+                }
+            }
+            grouped.replaceAll((type, list) -> Collections.unmodifiableList(list));
+            index = Collections.unmodifiableMap(grouped);
+            elementsByType = index;
+        }
+        return index;
+    }
 }
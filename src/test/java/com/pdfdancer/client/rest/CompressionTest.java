@@ -0,0 +1,134 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.client.http.HttpRequest;
+import com.pdfdancer.common.response.PageSnapshot;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompressionTest {
+
+    private static final String PAGE = SnapshotJson.page(1, SnapshotJson.element("IMAGE_000001", "IMAGE", 1));
+
+    private final LocalApiServer server = new LocalApiServer();
+    private volatile String acceptEncoding;
+    private volatile String contentEncoding;
+    private volatile String receivedBody;
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void compressionIsOffByDefault() {
+        server.on("/pdf/page/1/snapshot", exchange -> respondEncoded(exchange, 200, PAGE.getBytes(StandardCharsets.UTF_8)));
+
+        server.client(RetryConfig.noRetry()).toBlocking().retrieve(HttpRequest.GET("/pdf/page/1/snapshot"), PageSnapshot.class);
+
+        assertNull(acceptEncoding);
+    }
+
+    @Test
+    void gzipResponsesAreInflated() {
+        server.on("/pdf/page/1/snapshot", exchange -> respondEncoded(exchange, 200, PAGE.getBytes(StandardCharsets.UTF_8)));
+
+        PageSnapshot page = client(CompressionConfig.gzip()).toBlocking()
+                .retrieve(HttpRequest.GET("/pdf/page/1/snapshot"), PageSnapshot.class);
+
+        assertEquals("gzip", acceptEncoding);
+        assertEquals(1, page.elements().size());
+    }
+
+    @Test
+    void streamedDownloadsAreInflatedWhileRead() throws IOException {
+        byte[] pdf = new byte[256 * 1024];
+        Arrays.fill(pdf, (byte) '%');
+        server.on("/session/abc/pdf", exchange -> respondEncoded(exchange, 200, pdf));
+
+        try (InputStream in = client(CompressionConfig.gzip()).toBlocking().stream(HttpRequest.GET("/session/abc/pdf"))) {
+            assertArrayEquals(pdf, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void gzipErrorBodiesAreTranslated() {
+        byte[] error = "{\"error\":\"SessionNotFoundException\",\"message\":\"Session expired\"}".getBytes(StandardCharsets.UTF_8);
+        server.on("/pdf/page/1/snapshot", exchange -> respondEncoded(exchange, 404, error));
+
+        assertThrows(SessionNotFoundException.class, () -> client(CompressionConfig.gzip()).toBlocking()
+                .retrieve(HttpRequest.GET("/pdf/page/1/snapshot"), PageSnapshot.class));
+    }
+
+    @Test
+    void onlyRequestBodiesAboveTheThresholdAreCompressed() {
+        server.on("/pdf/text/replace", this::recordRequest);
+        PdfDancerHttpClient client = client(CompressionConfig.builder()
+                .compressRequests(true)
+                .requestThresholdBytes(1024)
+                .build());
+        String large = "A".repeat(4096);
+
+        client.toBlocking().retrieve(HttpRequest.POST("/pdf/text/replace", Map.of("text", large)), Boolean.class);
+        assertEquals("gzip", contentEncoding);
+        assertEquals("{\"text\":\"" + large + "\"}", receivedBody);
+        assertNull(acceptEncoding);
+
+        client.toBlocking().retrieve(HttpRequest.POST("/pdf/text/replace", Map.of("text", "small")), Boolean.class);
+        assertNull(contentEncoding);
+        assertEquals("{\"text\":\"small\"}", receivedBody);
+    }
+
+    private PdfDancerHttpClient client(CompressionConfig compression) {
+        return PdfDancerHttpClient.create(HttpClient.newHttpClient(), server.baseUri(), null, RetryConfig.noRetry(), compression);
+    }
+
+    private void recordRequest(HttpExchange exchange) throws IOException {
+        acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        contentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        InputStream body = exchange.getRequestBody();
+        if ("gzip".equals(contentEncoding)) {
+            body = new GZIPInputStream(body);
+        }
+        receivedBody = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        LocalApiServer.respond(exchange, 200, "true");
+    }
+
+    /**
+     * Gzip-encodes the body only when the client asked for it, like a compressing server would.
+     */
+    private void respondEncoded(HttpExchange exchange, int status, byte[] body) throws IOException {
+        acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if ("gzip".equals(acceptEncoding)) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            body = gzip(body);
+        }
+        LocalApiServer.respond(exchange, status, body);
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,183 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.client.http.HttpRequest;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrencyLimiterTest {
+
+    @Test
+    void unlimitedConfigNeverQueues() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.create(ConcurrencyLimitConfig.unlimited());
+
+        assertSame(ConcurrencyLimiter.UNLIMITED, limiter);
+        for (int i = 0; i < 1000; i++) {
+            limiter.acquire();
+        }
+        assertEquals(Integer.MAX_VALUE, limiter.stats().getLimit());
+        assertEquals(0, limiter.stats().getInFlight());
+    }
+
+    @Test
+    void limitGrowsWhileSlotsAreInUse() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(2).maxLimit(3));
+
+        for (int round = 0; round < 20; round++) {
+            ConcurrencyLimiter.Permit first = limiter.acquire();
+            ConcurrencyLimiter.Permit second = limiter.acquire();
+            first.onResponse(200);
+            second.onResponse(200);
+        }
+
+        assertEquals(3, limiter.stats().getLimit());
+    }
+
+    @Test
+    void overloadShrinksTheLimitOncePerRoundTrip() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(16).backoffRatio(0.5));
+        ConcurrencyLimiter.Permit warmUp = limiter.acquire();
+        sleep(20);
+        warmUp.onResponse(200);
+
+        ConcurrencyLimiter.Permit first = limiter.acquire();
+        ConcurrencyLimiter.Permit second = limiter.acquire();
+        ConcurrencyLimiter.Permit third = limiter.acquire();
+        first.onResponse(429);
+        second.onResponse(503);
+        third.onFailure(new HttpTimeoutException("timed out"));
+
+        ConcurrencyLimitStats stats = limiter.stats();
+        assertEquals(8, stats.getLimit());
+        assertEquals(3, stats.getOverloadCount());
+        assertEquals(0, stats.getInFlight());
+    }
+
+    @Test
+    void risingLatencyShrinksTheLimit() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(10).latencyTolerance(2.0));
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire().onResponse(200);
+        }
+
+        ConcurrencyLimiter.Permit slow = limiter.acquire();
+        sleep(50);
+        slow.onResponse(200);
+
+        assertEquals(5, limiter.stats().getLimit());
+        assertEquals(0, limiter.stats().getOverloadCount());
+    }
+
+    @Test
+    void steadyMixOfFastAndSlowRequestsKeepsGrowingTheLimit() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder()
+                .initialLimit(4).maxLimit(8).latencyTolerance(2.0));
+
+        for (int round = 0; round < 40; round++) {
+            ConcurrencyLimiter.Permit[] permits = new ConcurrencyLimiter.Permit[4];
+            for (int i = 0; i < permits.length; i++) {
+                permits[i] = limiter.acquire();
+            }
+            permits[0].onResponse(200);
+            permits[1].onResponse(200);
+            sleep(5);
+            permits[2].onResponse(200);
+            permits[3].onResponse(200);
+        }
+
+        assertEquals(8, limiter.stats().getLimit());
+    }
+
+    @Test
+    void waitingCallersAreServedInOrderAsSlotsFree() throws Exception {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(1).maxLimit(1));
+        ConcurrencyLimiter.Permit held = limiter.acquire();
+
+        CompletableFuture<ConcurrencyLimiter.Permit> first = limiter.acquireAsync();
+        CompletableFuture<ConcurrencyLimiter.Permit> second = limiter.acquireAsync();
+        assertEquals(2, limiter.stats().getQueueDepth());
+        assertFalse(first.isDone());
+
+        held.release();
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+
+        first.get().release();
+        second.get(5, TimeUnit.SECONDS).release();
+        assertEquals(0, limiter.stats().getQueueDepth());
+        assertEquals(0, limiter.stats().getInFlight());
+    }
+
+    @Test
+    void callersAreRejectedWhenTheQueueIsFullOrTheWaitExpires() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder()
+                .initialLimit(1).maxQueueSize(1).maxQueueWait(Duration.ofMillis(50)));
+        limiter.acquire();
+        CompletableFuture<ConcurrencyLimiter.Permit> queued = limiter.acquireAsync();
+
+        assertThrows(ConcurrencyLimitException.class, limiter::acquire);
+        ExecutionException timedOut = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertTrue(timedOut.getCause() instanceof ConcurrencyLimitException);
+        assertEquals(2, limiter.stats().getRejectedCount());
+        assertEquals(0, limiter.stats().getQueueDepth());
+    }
+
+    @Test
+    void clientRejectsRequestsBeyondItsLimit() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (LocalApiServer server = new LocalApiServer().on("/slow", exchange -> {
+            entered.countDown();
+            await(release);
+            LocalApiServer.respond(exchange, 200, "ok");
+        })) {
+            PdfDancerHttpClient client = PdfDancerHttpClient.builder()
+                    .baseUrl(server.baseUri())
+                    .httpClient(java.net.http.HttpClient.newHttpClient())
+                    .retryConfig(RetryConfig.noRetry())
+                    .concurrencyLimit(ConcurrencyLimitConfig.builder().initialLimit(1).maxQueueSize(0).build())
+                    .build();
+
+            CompletableFuture<String> first = client.toAsync().retrieve(HttpRequest.GET("/slow"), String.class);
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            assertThrows(ConcurrencyLimitException.class,
+                    () -> client.toBlocking().retrieve(HttpRequest.GET("/slow"), String.class));
+            release.countDown();
+
+            assertEquals("ok", first.get(5, TimeUnit.SECONDS));
+            assertEquals(1, client.getConcurrencyLimitStats().getRejectedCount());
+            assertEquals(0, client.getConcurrencyLimitStats().getInFlight());
+        }
+    }
+
+    private static ConcurrencyLimiter limiter(ConcurrencyLimitConfig.Builder config) {
+        return ConcurrencyLimiter.create(config.build());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.common.response.PageSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DocumentSnapshotStreamTest {
+
+    private LocalApiServer server;
+    private SnapshotCache cache;
+    private volatile String document = document(3);
+    private volatile String lastQuery;
+
+    @BeforeEach
+    void setUp() {
+        server = new LocalApiServer()
+                .on("/pdf/document/snapshot", exchange -> {
+                    lastQuery = exchange.getRequestURI().getQuery();
+                    LocalApiServer.respond(exchange, 200, document);
+                });
+        cache = new SnapshotCache("token", "session-1", server.client(RetryConfig.noRetry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void streamsPagesInOrder() {
+        try (Stream<PageSnapshot> pages = cache.streamDocumentSnapshot("IMAGE")) {
+            List<Integer> numbers = pages
+                    .map(page -> page.pageRef().getPosition().getPageNumber())
+                    .collect(Collectors.toList());
+            assertEquals(List.of(1, 2, 3), numbers);
+        }
+        assertEquals("types=IMAGE", lastQuery);
+    }
+
+    @Test
+    void skipsOtherTopLevelProperties() {
+        document = "{\"fonts\":[{\"fontName\":\"Helvetica\",\"fontSize\":12}],\"extra\":{\"nested\":[1,2]},"
+                + "\"pages\":[" + page(1) + "],\"pageCount\":1}";
+        try (Stream<PageSnapshot> pages = cache.streamDocumentSnapshot(null)) {
+            assertEquals(1, pages.count());
+        }
+    }
+
+    @Test
+    void emptyDocumentYieldsNoPages() {
+        document = "{\"pageCount\":0,\"fonts\":[]}";
+        try (Stream<PageSnapshot> pages = cache.streamDocumentSnapshot(null)) {
+            assertEquals(0, pages.count());
+        }
+    }
+
+    @Test
+    void closingEarlyStopsIteration() {
+        Stream<PageSnapshot> pages = cache.streamDocumentSnapshot(null);
+        Iterator<PageSnapshot> iterator = pages.iterator();
+        assertTrue(iterator.hasNext());
+        iterator.next();
+        pages.close();
+
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void streamingBypassesTheCache() {
+        try (Stream<PageSnapshot> pages = cache.streamDocumentSnapshot(null)) {
+            pages.forEach(page -> { });
+        }
+        cache.getDocumentSnapshotCached(null);
+        try (Stream<PageSnapshot> pages = cache.streamDocumentSnapshot(null)) {
+            pages.forEach(page -> { });
+        }
+
+        assertEquals(3, server.hits("/pdf/document/snapshot"));
+        assertEquals(1, cache.stats().getMissCount());
+    }
+
+    @Test
+    void malformedBodyIsReported() {
+        document = "[]";
+        assertThrows(PdfDancerClientException.class, () -> cache.streamDocumentSnapshot(null));
+    }
+
+    private static String document(int pageCount) {
+        List<String> pages = new ArrayList<>();
+        for (int i = 1; i <= pageCount; i++) {
+            pages.add(page(i));
+        }
+        return SnapshotJson.document(pages);
+    }
+
+    private static String page(int number) {
+        return SnapshotJson.page(number, SnapshotJson.element("img-" + number, "IMAGE", number));
+    }
+}
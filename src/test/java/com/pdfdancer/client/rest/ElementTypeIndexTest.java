@@ -0,0 +1,74 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.client.rest.selection.SelectionService;
+import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.model.ObjectType;
+import com.pdfdancer.common.model.Position;
+import com.pdfdancer.common.response.DocumentSnapshot;
+import com.pdfdancer.common.response.PageSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElementTypeIndexTest {
+
+    private final SelectionService selection = new SelectionService();
+
+    @Test
+    void pageIndexKeepsSnapshotOrderAndIsBuiltOnce() {
+        PageSnapshot page = page(element("image-1", ObjectType.IMAGE), element("path-1", ObjectType.PATH),
+                null, element("image-2", ObjectType.IMAGE));
+
+        List<ObjectRef> images = page.elementsOfType(ObjectType.IMAGE);
+
+        assertEquals(List.of("image-1", "image-2"), ids(images));
+        assertSame(images, page.elementsOfType(ObjectType.IMAGE));
+        assertTrue(page.elementsOfType(ObjectType.FORM_X_OBJECT).isEmpty());
+        assertEquals(Set.of(ObjectType.IMAGE, ObjectType.PATH), page.elementTypes());
+    }
+
+    @Test
+    void documentIndexConcatenatesPagesInOrder() {
+        DocumentSnapshot document = new DocumentSnapshot(2, List.of(), List.of(
+                page(element("image-1", ObjectType.IMAGE), element("path-1", ObjectType.PATH)),
+                page(element("path-2", ObjectType.PATH), element("image-2", ObjectType.IMAGE))));
+
+        List<ObjectRef> paths = selection.collectObjectsByType(document, Set.of(ObjectType.PATH));
+
+        assertEquals(List.of("path-1", "path-2"), ids(paths));
+        paths.clear();
+        assertEquals(List.of("path-1", "path-2"), ids(document.elementsOfType(ObjectType.PATH)));
+    }
+
+    @Test
+    void severalTypesAreMergedInSnapshotOrder() {
+        DocumentSnapshot document = new DocumentSnapshot(3, List.of(), List.of(
+                page(element("image-1", ObjectType.IMAGE), element("path-1", ObjectType.PATH),
+                        element("image-2", ObjectType.IMAGE)),
+                page(element("path-2", ObjectType.PATH), element("form-1", ObjectType.FORM_X_OBJECT)),
+                page(element("form-2", ObjectType.FORM_X_OBJECT))));
+
+        List<ObjectRef> selected = selection.collectObjectsByType(document, Set.of(ObjectType.IMAGE, ObjectType.PATH));
+
+        assertEquals(List.of("image-1", "path-1", "image-2", "path-2"), ids(selected));
+    }
+
+    private static PageSnapshot page(ObjectRef... elements) {
+        return new PageSnapshot(null, Arrays.asList(elements), List.of());
+    }
+
+    private static ObjectRef element(String id, ObjectType type) {
+        return ObjectRef.create(id, Position.atPage(1), type, type);
+    }
+
+    private static List<String> ids(List<ObjectRef> refs) {
+        return refs.stream().map(ObjectRef::getInternalId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,106 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.common.model.ObjectType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FormFieldSelectionTest {
+
+    private final List<String> queries = new ArrayList<>();
+    private String fieldType = "CHECKBOX";
+    private String checkboxName = "agree";
+    private LocalApiServer server;
+    private PDFDancer pdf;
+
+    @BeforeEach
+    void setUp() {
+        server = new LocalApiServer()
+                .on("/session/create", exchange -> LocalApiServer.respond(exchange, 200, "session-1"))
+                .on("/pdf/document/snapshot", exchange -> {
+                    queries.add(exchange.getRequestURI().getQuery());
+                    LocalApiServer.respond(exchange, 200, SnapshotJson.document(page()));
+                })
+                .on("/pdf/page/1/snapshot", exchange -> {
+                    queries.add(exchange.getRequestURI().getQuery());
+                    LocalApiServer.respond(exchange, 200, page());
+                });
+        pdf = PDFDancer.createSession("token", new byte[]{1}, server.client(RetryConfig.noRetry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void selectFormFieldsUsesOneCombinedRequest() {
+        List<FormFieldReference> fields = pdf.selectFormFields();
+
+        assertEquals(1, server.hits("/pdf/document/snapshot"));
+        assertEquals("types=TEXT_FIELD,CHECKBOX,RADIO_BUTTON,DROPDOWN,BUTTON", queries.get(0));
+        assertEquals(2, fields.size());
+        assertEquals("name", fields.get(0).getName());
+        assertEquals(ObjectType.TEXT_FIELD, fields.get(0).type());
+        assertEquals(ObjectType.CHECKBOX, fields.get(1).type());
+    }
+
+    @Test
+    void pageFormFieldsUseOneCombinedRequest() {
+        assertEquals(2, pdf.page(1).selectFormFields().size());
+
+        assertEquals(1, server.hits("/pdf/page/1/snapshot"));
+    }
+
+    @Test
+    void genericFieldTypesFallBackToOneRequestPerFormType() {
+        fieldType = "FORM_FIELD";
+
+        List<FormFieldReference> fields = pdf.selectFormFields();
+
+        assertEquals(6, server.hits("/pdf/document/snapshot"));
+        assertTrue(fields.stream().anyMatch(field -> field.type() == ObjectType.CHECKBOX));
+    }
+
+    @Test
+    void namesAreLookedUpInAnIndexRebuiltAfterInvalidation() {
+        for (int i = 0; i < 200; i++) {
+            assertEquals("box-1", pdf.selectFormFieldByName("agree").orElseThrow().getInternalId());
+        }
+        assertTrue(pdf.selectFormFieldsByName("missing").isEmpty());
+        assertEquals(1, pdf.page(1).selectFormFieldsByName("name").size());
+        assertEquals(1, server.hits("/pdf/document/snapshot"));
+        assertEquals(0, server.hits("/pdf/page/1/snapshot"));
+
+        checkboxName = "consent";
+        pdf.invalidateSnapshotCaches(Set.of(1));
+
+        assertTrue(pdf.selectFormFieldsByName("agree").isEmpty());
+        assertEquals(1, pdf.selectFormFieldsByName("consent").size());
+        assertEquals(1, pdf.page(1).selectFormFieldsByName("consent").size());
+    }
+
+    @Test
+    void selectByIdUsesTheCachedSnapshots() {
+        assertEquals("text-1", pdf.selectById("text-1").orElseThrow().getInternalId());
+        assertFalse(pdf.selectById("missing").isPresent());
+        assertEquals("box-1", pdf.page(1).selectById("box-1").orElseThrow().getInternalId());
+        assertEquals("text-1", pdf.selectById("text-1").orElseThrow().getInternalId());
+
+        assertEquals(1, server.hits("/pdf/document/snapshot"));
+        assertEquals(0, server.hits("/pdf/page/1/snapshot"));
+    }
+
+    private String page() {
+        return SnapshotJson.page(1, SnapshotJson.formField("box-1", fieldType, checkboxName, null, 1),
+                SnapshotJson.formField("text-1", "TEXT_FIELD", "name", null, 1));
+    }
+}
@@ -0,0 +1,105 @@
+package com.pdfdancer.client.rest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FormFillTest {
+
+    private static final int FIELD_COUNT = 400;
+
+    private LocalApiServer server;
+    private PDFDancer pdf;
+
+    @BeforeEach
+    void setUp() {
+        server = new LocalApiServer()
+                .on("/session/create", exchange -> LocalApiServer.respond(exchange, 200, "session-1"))
+                .on("/pdf/document/snapshot", exchange -> LocalApiServer.respond(exchange, 200,
+                        SnapshotJson.document(page(1), page(2))))
+                .on("/pdf/page/1/snapshot", exchange -> LocalApiServer.respond(exchange, 200, page(1)))
+                .on("/pdf/page/2/snapshot", exchange -> LocalApiServer.respond(exchange, 200, page(2)))
+                .on("/pdf/modify/formField", exchange -> {
+                    String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                    if (body.contains("\"field-13\"")) {
+                        LocalApiServer.respond(exchange, 400,
+                                "{\"error\":\"IllegalArgumentException\",\"message\":\"read-only field\"}");
+                    } else {
+                        LocalApiServer.respond(exchange, 200, "true");
+                    }
+                });
+        pdf = PDFDancer.createSession("token", new byte[]{1}, server.client(RetryConfig.noRetry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void fillsAllNamesFromOneSnapshotAndReportsPerName() {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("name-1", "Ada");
+        values.put("missing", "x");
+        values.put("name-13", "y");
+        values.put("shared", "on");
+
+        FormFillReport report = pdf.fillForm(values);
+
+        assertEquals(1, server.hits("/pdf/document/snapshot"));
+        assertEquals(1 + 1 + 2, server.hits("/pdf/modify/formField"));
+        assertEquals(List.of("name-1", "shared"), report.getFilledNames());
+        assertEquals(List.of("missing"), report.getMissingNames());
+        assertEquals(List.of("name-13"), report.getFailedNames());
+        assertFalse(report.isComplete());
+
+        FormFillReport.FieldResult shared = report.getResults().get(3);
+        assertEquals(2, shared.getCommands().size());
+        assertNull(shared.getErrorMessage());
+        assertTrue(report.getResults().get(1).getCommands().isEmpty());
+        assertEquals("read-only field", report.getResults().get(2).getErrorMessage());
+    }
+
+    @Test
+    void largeFormIsFilledAndStalePagesAreRefetchedOnce() {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            if (i != 13) values.put("name-" + i, "value-" + i);
+        }
+
+        FormFillReport report = pdf.fillForm(values, 16);
+
+        assertTrue(report.isComplete());
+        assertEquals(FIELD_COUNT - 1, report.getFilledNames().size());
+        assertEquals(FIELD_COUNT - 1, server.hits("/pdf/modify/formField"));
+
+        pdf.selectFormFieldsByName("name-1");
+        assertEquals(1, server.hits("/pdf/document/snapshot"));
+        assertEquals(1, server.hits("/pdf/page/1/snapshot"));
+        assertEquals(1, server.hits("/pdf/page/2/snapshot"));
+    }
+
+    private static String page(int pageNumber) {
+        List<String> fields = new ArrayList<>();
+        for (int i = pageNumber - 1; i < FIELD_COUNT; i += 2) {
+            fields.add(field("field-" + i, "name-" + i, pageNumber));
+        }
+        fields.add(field("shared-" + pageNumber, "shared", pageNumber));
+        return SnapshotJson.page(pageNumber, fields.toArray(new String[0]));
+    }
+
+    private static String field(String id, String name, int pageNumber) {
+        return SnapshotJson.formField(id, "TEXT_FIELD", name, null, pageNumber);
+    }
+}
@@ -0,0 +1,58 @@
+package com.pdfdancer.client.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pdfdancer.client.http.Argument;
+import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.model.ObjectType;
+import com.pdfdancer.common.model.Position;
+import com.pdfdancer.common.request.DeleteRequest;
+import com.pdfdancer.common.request.MoveRequest;
+import com.pdfdancer.common.response.CommandResult;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class JsonCodecsTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final JsonCodecs codecs = new JsonCodecs(mapper).warmUp();
+
+    @Test
+    void readersAndWritersAreResolvedOnce() {
+        assertSame(codecs.reader(CommandResult.class), codecs.reader(CommandResult.class));
+        assertSame(codecs.reader(Argument.listOf(ObjectRef.class)), codecs.reader(Argument.listOf(ObjectRef.class)));
+        assertSame(codecs.writer(MoveRequest.class), codecs.writer(MoveRequest.class));
+    }
+
+    @Test
+    void argumentsWithTheSameTypesAreEqual() {
+        assertEquals(Argument.listOf(ObjectRef.class), Argument.of(List.class, ObjectRef.class));
+        assertEquals(Argument.listOf(ObjectRef.class).hashCode(), Argument.of(List.class, ObjectRef.class).hashCode());
+        assertNotEquals(Argument.listOf(ObjectRef.class), Argument.listOf(String.class));
+    }
+
+    @Test
+    void cachedWriterMatchesMapperOutput() throws Exception {
+        ObjectRef image = ObjectRef.create("IMAGE_000003", Position.atPage(2), ObjectType.IMAGE, ObjectType.IMAGE);
+        DeleteRequest request = new DeleteRequest(image);
+
+        assertEquals(new String(mapper.writeValueAsBytes(request), StandardCharsets.UTF_8),
+                new String(codecs.writer(DeleteRequest.class).writeValueAsBytes(request), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void cachedReaderBindsGenericLists() throws Exception {
+        List<String> values = codecs.reader(Argument.listOf(String.class)).readValue("[\"a\",\"b\"]");
+
+        assertEquals(List.of("a", "b"), values);
+    }
+}
@@ -0,0 +1,94 @@
+package com.pdfdancer.client.rest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal in-process stand-in for the PDFDancer API, used by unit tests that need real HTTP
+ * semantics (streamed bodies, chunked uploads) which the stubbed {@link HttpClient}s cannot provide.
+ */
+final class LocalApiServer implements AutoCloseable {
+
+    interface Handler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+    LocalApiServer() {
+        this(0);
+    }
+
+    /**
+     * @param handlerThreads number of requests handled at the same time; 0 handles them one by one on the
+     *                       server's dispatcher thread
+     */
+    LocalApiServer(int handlerThreads) {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        handlers = handlerThreads > 0 ? Executors.newFixedThreadPool(handlerThreads) : null;
+        server.setExecutor(handlers);
+        server.start();
+    }
+
+    LocalApiServer on(String path, Handler handler) {
+        server.createContext("/v2" + path, exchange -> {
+            hits.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+            try (exchange) {
+                handler.handle(exchange);
+            }
+        });
+        return this;
+    }
+
+    int hits(String path) {
+        AtomicInteger count = hits.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    URI baseUri() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    PdfDancerHttpClient client(RetryConfig retryConfig) {
+        return PdfDancerHttpClient.create(HttpClient.newHttpClient(), baseUri(), null, retryConfig);
+    }
+
+    static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        respond(exchange, status, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        if (handlers != null) {
+            handlers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.pdfdancer.client.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pdfdancer.common.model.FormFieldRef;
+import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.model.ObjectType;
+import com.pdfdancer.common.model.Position;
+import com.pdfdancer.common.response.CommandResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MutationBatchTest {
+
+    private LocalApiServer server;
+    private PDFDancer pdf;
+
+    @BeforeEach
+    void setUp() {
+        server = new LocalApiServer()
+                .on("/session/create", exchange -> LocalApiServer.respond(exchange, 200, "session-1"))
+                .on("/pdf/move", exchange -> LocalApiServer.respond(exchange, 200, "true"))
+                .on("/pdf/modify/formField", exchange -> LocalApiServer.respond(exchange, 200, "true"))
+                .on("/pdf/delete", exchange -> LocalApiServer.respond(exchange, 400,
+                        "{\"error\":\"IllegalArgumentException\",\"message\":\"no such element\"}"));
+        pdf = PDFDancer.createSession("token", new byte[]{1}, server.client(RetryConfig.noRetry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void executeReturnsOneResultPerOperationInRecordingOrder() {
+        ObjectRef image = image("image-1");
+        FormFieldRef field = new FormFieldRef("field-1", Position.atPage(2), ObjectType.TEXT_FIELD,
+                ObjectType.TEXT_FIELD, "name", null);
+
+        MutationBatch batch = pdf.batch()
+                .move(image, new Position(10, 20))
+                .changeFormField(field, "Ada")
+                .delete(image);
+        assertEquals(3, batch.size());
+
+        List<CommandResult> results = batch.execute();
+
+        assertEquals(3, results.size());
+        assertEquals("move", results.get(0).commandName());
+        assertTrue(results.get(0).success());
+        assertEquals("field-1", results.get(1).elementId());
+        assertTrue(results.get(1).success());
+        assertFalse(results.get(2).success());
+        assertEquals("no such element", results.get(2).message());
+        assertEquals(0, batch.size());
+        assertEquals(1, server.hits("/pdf/move"));
+        assertEquals(1, server.hits("/pdf/modify/formField"));
+        assertEquals(1, server.hits("/pdf/delete"));
+    }
+
+    @Test
+    void operationsOnOneElementStayOrderedWithinTheInFlightLimit() throws Exception {
+        Map<String, List<Integer>> arrivals = new ConcurrentHashMap<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ObjectMapper mapper = new ObjectMapper();
+        try (LocalApiServer concurrent = new LocalApiServer(8)
+                .on("/session/create", exchange -> LocalApiServer.respond(exchange, 200, "session-1"))
+                .on("/pdf/move", exchange -> {
+                    JsonNode body = mapper.readTree(exchange.getRequestBody());
+                    String id = body.path("objectRef").path("internalId").asText();
+                    int step = body.path("newPosition").path("boundingRect").path("x").asInt();
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        arrivals.computeIfAbsent(id, key -> new CopyOnWriteArrayList<>()).add(step);
+                        Thread.sleep(30);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                    if (id.equals("a") && step == 2) {
+                        LocalApiServer.respond(exchange, 400,
+                                "{\"error\":\"IllegalArgumentException\",\"message\":\"blocked\"}");
+                    } else {
+                        LocalApiServer.respond(exchange, 200, "true");
+                    }
+                })) {
+            PDFDancer session = PDFDancer.createSession("token", new byte[]{1},
+                    concurrent.client(RetryConfig.noRetry()));
+            MutationBatch batch = session.batch().maxInFlight(2);
+            for (int step = 1; step <= 3; step++) {
+                for (String id : List.of("a", "b", "c")) {
+                    batch.move(image(id), new Position(step, 0));
+                }
+            }
+
+            List<CommandResult> results = batch.execute();
+
+            for (String id : List.of("a", "b", "c")) {
+                assertEquals(List.of(1, 2, 3), arrivals.get(id), id);
+            }
+            assertFalse(results.get(3).success());
+            assertTrue(results.get(6).success());
+            assertEquals(2, maxInFlight.get());
+        }
+    }
+
+    @Test
+    void emptyBatchSendsNothing() {
+        assertTrue(pdf.batch().execute().isEmpty());
+        assertEquals(0, server.hits("/pdf/move"));
+    }
+
+    private static ObjectRef image(String id) {
+        return ObjectRef.create(id, Position.atPage(1), ObjectType.IMAGE, ObjectType.IMAGE);
+    }
+}
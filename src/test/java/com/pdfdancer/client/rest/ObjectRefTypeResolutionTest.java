@@ -0,0 +1,68 @@
+package com.pdfdancer.client.rest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pdfdancer.common.model.FormFieldRef;
+import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.model.ObjectType;
+import com.pdfdancer.common.model.PathObjectRef;
+import com.pdfdancer.common.response.PageSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class ObjectRefTypeResolutionTest {
+
+    private static final String PAGE = "{\"pageRef\":{\"internalId\":\"page-1\",\"objectRefType\":\"PAGE\"},"
+            + "\"elements\":["
+            + "{\"internalId\":\"a\",\"objectRefType\":\"IMAGE\",\"position\":{\"pageNumber\":1}},"
+            + "{\"internalId\":\"b\",\"type\":\"CHECKBOX\",\"name\":\"agree\",\"value\":\"On\"},"
+            + "{\"type\":\"PATH\",\"internalId\":\"c\",\"strokeWidth\":2.0,\"extra\":{\"type\":\"IGNORED\"}},"
+            + "{\"internalId\":\"d\",\"type\":\"TEXT_FIELD\",\"objectRefType\":\"FORM_FIELD\",\"name\":\"n\"},"
+            + "{\"internalId\":\"e\",\"objectRefType\":\"TEXT_LINE\",\"type\":\"TEXT_LINE\"}"
+            + "],\"fonts\":[]}";
+
+    @Test
+    void streamingDecodingMatchesTreeFixUp() throws Exception {
+        PageSnapshot streamed = decode(PdfDancerHttpClient.create(HttpClient.newHttpClient(), URI.create("http://localhost")));
+        ObjectMapper plain = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        PageSnapshot legacy = decode(PdfDancerHttpClient.create(HttpClient.newHttpClient(), URI.create("http://localhost"), plain));
+
+        assertEquals(ObjectType.PAGE, streamed.pageRef().getType());
+        assertEquals(legacy.elements().size(), streamed.elements().size());
+        for (int i = 0; i < legacy.elements().size(); i++) {
+            ObjectRef expected = legacy.elements().get(i);
+            ObjectRef actual = streamed.elements().get(i);
+            assertEquals(expected.getClass(), actual.getClass());
+            assertEquals(expected.getInternalId(), actual.getInternalId());
+            assertEquals(expected.getType(), actual.getType());
+            assertEquals(expected.getObjectRefType(), actual.getObjectRefType());
+        }
+    }
+
+    @Test
+    void typeAloneSelectsSubtype() throws Exception {
+        List<ObjectRef> elements = decode(PdfDancerHttpClient.create(HttpClient.newHttpClient(), URI.create("http://localhost"))).elements();
+
+        assertEquals(ObjectType.IMAGE, elements.get(0).getType());
+        FormFieldRef checkbox = assertInstanceOf(FormFieldRef.class, elements.get(1));
+        assertEquals(ObjectType.CHECKBOX, checkbox.getObjectRefType());
+        assertEquals("On", checkbox.getValue());
+        PathObjectRef path = assertInstanceOf(PathObjectRef.class, elements.get(2));
+        assertEquals(Double.valueOf(2.0), path.getStrokeWidth());
+        assertEquals(ObjectType.TEXT_FIELD, elements.get(3).getType());
+        assertInstanceOf(FormFieldRef.class, elements.get(3));
+    }
+
+    private static PageSnapshot decode(PdfDancerHttpClient client) throws Exception {
+        JavaType type = new ObjectMapper().getTypeFactory().constructType(PageSnapshot.class);
+        return (PageSnapshot) client.readValueFixingTypes(PAGE.getBytes(StandardCharsets.UTF_8), type);
+    }
+}
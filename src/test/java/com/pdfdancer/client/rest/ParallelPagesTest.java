@@ -0,0 +1,115 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.common.response.PageSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelPagesTest {
+
+    private static final int PAGES = 6;
+
+    private LocalApiServer server;
+    private PDFDancer pdf;
+
+    @BeforeEach
+    void setUp() {
+        server = new LocalApiServer()
+                .on("/session/create", exchange -> LocalApiServer.respond(exchange, 200, "session-1"))
+                .on("/pdf/page/find", exchange -> LocalApiServer.respond(exchange, 200, pagesJson()));
+        for (int page = 1; page <= PAGES; page++) {
+            String json = SnapshotJson.page(page);
+            server.on("/pdf/page/" + page + "/snapshot", exchange -> LocalApiServer.respond(exchange, 200, json));
+        }
+        pdf = PDFDancer.createSession("token", new byte[]{1}, server.client(RetryConfig.noRetry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void pageSnapshotsAreReturnedInPageOrderAndCached() {
+        List<PageSnapshot> snapshots = pdf.parallel().pageSnapshots();
+
+        assertEquals(PAGES, snapshots.size());
+        for (int page = 1; page <= PAGES; page++) {
+            assertEquals(page, snapshots.get(page - 1).pageRef().getPosition().getPageNumber());
+            assertEquals(1, server.hits("/pdf/page/" + page + "/snapshot"));
+        }
+        pdf.page(3).getSnapshot();
+        assertEquals(1, server.hits("/pdf/page/3/snapshot"));
+    }
+
+    @Test
+    void tasksRunConcurrentlyUpToTheCap() {
+        int cap = 3;
+        CountDownLatch allStarted = new CountDownLatch(cap);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+
+        List<Boolean> overlapped = pdf.parallel().maxConcurrency(cap).mapPages(page -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                allStarted.countDown();
+                return allStarted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                active.decrementAndGet();
+            }
+        });
+
+        assertEquals(List.of(true, true, true, true, true, true), overlapped);
+        assertEquals(cap, maxActive.get());
+    }
+
+    @Test
+    void failingPageIsRethrownAfterTheOthersComplete() {
+        AtomicInteger completed = new AtomicInteger();
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> pdf.parallel()
+                .mapPages(page -> {
+                    if (page.getPageNumber() == 2) {
+                        throw new IllegalStateException("page 2");
+                    }
+                    return completed.incrementAndGet();
+                }));
+
+        assertEquals("page 2", error.getMessage());
+        assertEquals(PAGES - 1, completed.get());
+    }
+
+    @Test
+    void callerExecutorRunsSelectedPages() {
+        ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "caller-pool"));
+        try {
+            List<String> threads = pdf.parallel().executor(executor)
+                    .mapPages(List.of(5, 1), page -> page.getPageNumber() + ":" + Thread.currentThread().getName());
+
+            assertEquals(List.of("5:caller-pool", "1:caller-pool"), threads);
+            assertEquals(0, server.hits("/pdf/page/find"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String pagesJson() {
+        String[] pages = new String[PAGES];
+        for (int page = 1; page <= PAGES; page++) {
+            pages[page - 1] = SnapshotJson.pageRef(page);
+        }
+        return SnapshotJson.elements(pages);
+    }
+}
@@ -20,6 +20,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PdfDancerHttpClientTest {
 
@@ -56,6 +58,54 @@ class PdfDancerHttpClientTest {
         assertEquals(URI.create("https://example.test/v2/keys/anon"), delegate.lastRequest.uri());
     }
 
+    @Test
+    void appliesEndpointAndSizeScaledRequestTimeouts() {
+        CapturingHttpClient delegate = new CapturingHttpClient();
+        PdfDancerHttpClient client = PdfDancerHttpClient.builder()
+                .baseUrl(URI.create("https://example.test"))
+                .httpClient(delegate)
+                .timeouts(TimeoutConfig.builder()
+                        .requestTimeout(Duration.ofSeconds(2))
+                        .endpoint("GET", "/session/{id}/pdf", Duration.ofMinutes(10))
+                        .perMegabyte(Duration.ofSeconds(1))
+                        .build())
+                .build();
+
+        client.toBlocking().retrieve(HttpRequest.PUT("/pdf/move", null), String.class);
+        assertEquals(Optional.of(Duration.ofSeconds(2)), delegate.lastRequest.timeout());
+
+        client.toBlocking().retrieve(HttpRequest.GET("/session/abc/pdf"), String.class);
+        assertEquals(Optional.of(Duration.ofMinutes(10)), delegate.lastRequest.timeout());
+
+        client.toBlocking().retrieve(HttpRequest.POST("/session/create", new byte[3 * 1024 * 1024]), String.class);
+        assertEquals(Optional.of(Duration.ofSeconds(5)), delegate.lastRequest.timeout());
+    }
+
+    @Test
+    void operationDeadlineShortensRequestTimeout() {
+        CapturingHttpClient delegate = new CapturingHttpClient();
+        PdfDancerHttpClient client = PdfDancerHttpClient.builder()
+                .baseUrl(URI.create("https://example.test"))
+                .httpClient(delegate)
+                .timeouts(TimeoutConfig.builder().operationDeadline(Duration.ofSeconds(5)).build())
+                .build();
+
+        client.toBlocking().retrieve(HttpRequest.GET("/pdf/find"), String.class);
+
+        Duration timeout = delegate.lastRequest.timeout().orElseThrow();
+        assertTrue(timeout.compareTo(Duration.ofSeconds(5)) <= 0 && !timeout.isNegative());
+    }
+
+    @Test
+    void builderRejectsHttpSettingsForSuppliedHttpClient() {
+        PdfDancerHttpClient.Builder builder = PdfDancerHttpClient.builder()
+                .baseUrl(URI.create("https://example.test"))
+                .httpClient(new CapturingHttpClient())
+                .connectTimeout(Duration.ofSeconds(1));
+
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
     private static final class CapturingHttpClient extends HttpClient {
         private java.net.http.HttpRequest lastRequest;
 
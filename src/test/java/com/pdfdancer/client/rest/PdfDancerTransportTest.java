@@ -0,0 +1,88 @@
+package com.pdfdancer.client.rest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfDancerTransportTest {
+
+    private static final int SESSIONS = 20;
+
+    private final Set<Integer> connections = ConcurrentHashMap.newKeySet();
+    private LocalApiServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = new LocalApiServer()
+                .on("/session/create", exchange -> {
+                    exchange.getRequestBody().readAllBytes();
+                    connections.add(exchange.getRemoteAddress().getPort());
+                    LocalApiServer.respond(exchange, 200, "session-1");
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void sessionsOnOneTransportReuseItsConnection() {
+        try (PdfDancerTransport transport = PdfDancerTransport.builder().build()) {
+            for (int i = 0; i < SESSIONS; i++) {
+                PDFDancer.createSession("token", new byte[]{1}, transport.client(server.baseUri(), RetryConfig.noRetry()));
+            }
+        }
+
+        assertEquals(SESSIONS, server.hits("/session/create"));
+        assertEquals(1, connections.size());
+    }
+
+    @Test
+    void separateTransportsEachOpenTheirOwnConnection() {
+        for (int i = 0; i < SESSIONS; i++) {
+            try (PdfDancerTransport transport = PdfDancerTransport.builder().build()) {
+                PDFDancer.createSession("token", new byte[]{1}, transport.client(server.baseUri(), RetryConfig.noRetry()));
+            }
+        }
+
+        assertEquals(SESSIONS, connections.size());
+    }
+
+    @Test
+    void closedTransportRejectsNewClients() {
+        PdfDancerTransport transport = PdfDancerTransport.builder().build();
+        transport.close();
+
+        assertTrue(transport.isClosed());
+        assertThrows(IllegalStateException.class, () -> transport.client(server.baseUri()));
+    }
+
+    @Test
+    void sharedTransportIsReplacedAndRecreatedAfterClose() {
+        PdfDancerTransport original = PdfDancerTransport.shared();
+        PdfDancerTransport custom = PdfDancerTransport.builder().build();
+        try {
+            assertSame(original, PdfDancerTransport.shared());
+            assertSame(original, PdfDancerTransport.setShared(custom));
+            assertSame(custom, PdfDancerTransport.shared());
+
+            custom.close();
+            PdfDancerTransport recreated = PdfDancerTransport.shared();
+            assertNotSame(custom, recreated);
+            assertFalse(recreated.isClosed());
+        } finally {
+            PdfDancerTransport.setShared(original);
+        }
+    }
+}
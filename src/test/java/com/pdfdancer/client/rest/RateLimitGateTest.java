@@ -0,0 +1,116 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.client.http.HttpRequest;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitGateTest {
+
+    @Test
+    void disabledConfigNeverHolds() {
+        RateLimitGate gate = RateLimitGate.create(RateLimitConfig.disabled());
+
+        assertSame(RateLimitGate.DISABLED, gate);
+        gate.hold("a", Duration.ofSeconds(10));
+        assertEquals(Duration.ZERO, gate.reserve("a"));
+    }
+
+    @Test
+    void retryAfterHoldsOnlyItsOwnGroupUpToTheMaximum() {
+        RateLimitGate gate = RateLimitGate.create(RateLimitConfig.builder().maxHold(Duration.ofSeconds(2)).build());
+
+        assertEquals(Duration.ZERO, gate.reserve("a"));
+        gate.hold("a", Duration.ofSeconds(30));
+
+        Duration wait = gate.reserve("a");
+        assertTrue(wait.compareTo(Duration.ofMillis(1900)) > 0, wait::toString);
+        assertTrue(wait.compareTo(Duration.ofSeconds(2)) <= 0, wait::toString);
+        assertEquals(Duration.ZERO, gate.reserve("b"));
+    }
+
+    @Test
+    void pacingLetsABurstThroughThenSpacesRequests() {
+        RateLimitGate gate = RateLimitGate.create(RateLimitConfig.builder().requestsPerSecond(10).burst(2).build());
+
+        assertEquals(Duration.ZERO, gate.reserve("a"));
+        assertEquals(Duration.ZERO, gate.reserve("a"));
+        assertBetween(gate.reserve("a"), 50, 100);
+        assertBetween(gate.reserve("a"), 150, 200);
+    }
+
+    @Test
+    void heldRequestsResumeOneIntervalApart() {
+        RateLimitGate gate = RateLimitGate.create(RateLimitConfig.builder().requestsPerSecond(10).burst(5).build());
+
+        gate.hold("a", Duration.ofMillis(500));
+
+        assertBetween(gate.reserve("a"), 400, 500);
+        assertBetween(gate.reserve("a"), 500, 600);
+        assertBetween(gate.reserve("a"), 600, 700);
+    }
+
+    @Test
+    void retryAfterHoldsOtherRequestsOfTheClient() throws Exception {
+        try (LocalApiServer server = throttlingServer("1")) {
+            PdfDancerHttpClient client = client(server, TimeoutConfig.defaultConfig());
+
+            assertThrows(RateLimitException.class,
+                    () -> client.toBlocking().retrieve(HttpRequest.GET("/throttled"), String.class));
+            long start = System.nanoTime();
+            CompletableFuture<String> held = client.toAsync().retrieve(HttpRequest.GET("/ok"), String.class);
+
+            assertEquals("ok", held.get(5, TimeUnit.SECONDS));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(900));
+            assertEquals(1, server.hits("/ok"));
+        }
+    }
+
+    @Test
+    void requestsHeldBeyondTheDeadlineFailWithoutBeingSent() {
+        try (LocalApiServer server = throttlingServer("5")) {
+            PdfDancerHttpClient client = client(server,
+                    TimeoutConfig.builder().operationDeadline(Duration.ofMillis(500)).build());
+
+            assertThrows(RateLimitException.class,
+                    () -> client.toBlocking().retrieve(HttpRequest.GET("/throttled"), String.class));
+            RateLimitException held = assertThrows(RateLimitException.class,
+                    () -> client.toBlocking().retrieve(HttpRequest.GET("/ok"), String.class));
+
+            assertTrue(held.getRetryAfter().compareTo(Duration.ofSeconds(4)) > 0);
+            assertEquals(0, server.hits("/ok"));
+        }
+    }
+
+    private static LocalApiServer throttlingServer(String retryAfter) {
+        return new LocalApiServer()
+                .on("/throttled", exchange -> {
+                    exchange.getResponseHeaders().add("Retry-After", retryAfter);
+                    LocalApiServer.respond(exchange, 429, "slow down");
+                })
+                .on("/ok", exchange -> LocalApiServer.respond(exchange, 200, "ok"));
+    }
+
+    private static PdfDancerHttpClient client(LocalApiServer server, TimeoutConfig timeouts) {
+        URI baseUrl = server.baseUri();
+        return PdfDancerHttpClient.builder()
+                .baseUrl(baseUrl)
+                .httpClient(java.net.http.HttpClient.newHttpClient())
+                .retryConfig(RetryConfig.noRetry())
+                .timeouts(timeouts)
+                .build();
+    }
+
+    private static void assertBetween(Duration actual, long minMillis, long maxMillis) {
+        assertTrue(actual.compareTo(Duration.ofMillis(minMillis)) >= 0
+                && actual.compareTo(Duration.ofMillis(maxMillis)) <= 0, actual::toString);
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -53,6 +54,68 @@ class RetryBehaviorTest {
         assertEquals(2, delegate.calls);
     }
 
+    @Test
+    void asyncRetrieveRetriesLikeBlocking() {
+        ScriptedHttpClient delegate = new ScriptedHttpClient(
+                Step.status(503), Step.connectionFailure(), Step.status(200));
+        PdfDancerHttpClient client = client(delegate, RetryConfig.builder()
+                .maxAttempts(3).initialDelay(Duration.ZERO).maxDelay(Duration.ZERO)
+                .retryOnConnectionError(true).build());
+
+        assertEquals("ok", client.toAsync().retrieve(HttpRequest.GET("/test"), String.class).join());
+        assertEquals(3, delegate.calls);
+    }
+
+    @Test
+    void asyncRetrieveCompletesExceptionallyWithTranslatedError() {
+        ScriptedHttpClient delegate = new ScriptedHttpClient(Step.status(429, "5"));
+        PdfDancerHttpClient client = client(delegate, RetryConfig.noRetry());
+
+        CompletableFuture<String> result = client.toAsync().retrieve(HttpRequest.GET("/test"), String.class);
+
+        ExecutionException error = assertThrows(ExecutionException.class, result::get);
+        assertTrue(error.getCause() instanceof RateLimitException);
+        assertEquals(Duration.ofSeconds(5), ((RateLimitException) error.getCause()).getRetryAfter());
+        assertEquals(1, delegate.calls);
+    }
+
+    @Test
+    void operationDeadlineStopsRetryingWhenBackoffWouldExceedIt() {
+        ScriptedHttpClient delegate = new ScriptedHttpClient(
+                Step.status(503), Step.status(503), Step.status(503), Step.status(200));
+        PdfDancerHttpClient client = PdfDancerHttpClient.builder()
+                .baseUrl(URI.create("https://example.test"))
+                .httpClient(delegate)
+                .retryConfig(RetryConfig.builder()
+                        .maxAttempts(4).initialDelay(Duration.ofMillis(200)).backoffMultiplier(1.0).build())
+                .timeouts(TimeoutConfig.builder().operationDeadline(Duration.ofMillis(300)).build())
+                .build();
+
+        PdfDancerClientException error = assertThrows(PdfDancerClientException.class,
+                () -> client.toBlocking().retrieve(HttpRequest.GET("/test"), String.class));
+        assertEquals(503, error.getStatusCode());
+        assertEquals(2, delegate.calls);
+    }
+
+    @Test
+    void asyncOperationDeadlineStopsRetryingLikeBlocking() {
+        ScriptedHttpClient delegate = new ScriptedHttpClient(
+                Step.status(503), Step.status(503), Step.status(503), Step.status(200));
+        PdfDancerHttpClient client = PdfDancerHttpClient.builder()
+                .baseUrl(URI.create("https://example.test"))
+                .httpClient(delegate)
+                .retryConfig(RetryConfig.builder()
+                        .maxAttempts(4).initialDelay(Duration.ofMillis(200)).backoffMultiplier(1.0).build())
+                .timeouts(TimeoutConfig.builder().operationDeadline(Duration.ofMillis(300)).build())
+                .build();
+
+        CompletableFuture<String> result = client.toAsync().retrieve(HttpRequest.GET("/test"), String.class);
+
+        ExecutionException error = assertThrows(ExecutionException.class, result::get);
+        assertTrue(error.getCause() instanceof PdfDancerClientException);
+        assertEquals(2, delegate.calls);
+    }
+
     @Test
     void finalRateLimitResponsePreservesNumericRetryAfter() {
         RateLimitException error = finalRateLimit("5");
@@ -127,7 +190,11 @@ class RetryBehaviorTest {
         @Override public Optional<Executor> executor() { return Optional.empty(); }
         @Override public <T> CompletableFuture<HttpResponse<T>> sendAsync(
                 java.net.http.HttpRequest request, HttpResponse.BodyHandler<T> handler) {
-            throw new UnsupportedOperationException();
+            try {
+                return CompletableFuture.completedFuture(send(request, handler));
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
         }
         @Override public <T> CompletableFuture<HttpResponse<T>> sendAsync(
                 java.net.http.HttpRequest request, HttpResponse.BodyHandler<T> handler,
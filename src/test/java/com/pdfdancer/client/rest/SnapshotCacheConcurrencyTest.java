@@ -0,0 +1,145 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.common.response.DocumentSnapshot;
+import com.pdfdancer.common.response.PageSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnapshotCacheConcurrencyTest {
+
+    private static final String PAGE = SnapshotJson.page(1);
+    private static final String DOCUMENT = SnapshotJson.document(PAGE);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private LocalApiServer server;
+    private SnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        server = new LocalApiServer()
+                .on("/pdf/document/snapshot", exchange -> {
+                    await(release);
+                    LocalApiServer.respond(exchange, 200, DOCUMENT);
+                })
+                .on("/pdf/page/1/snapshot", exchange -> LocalApiServer.respond(exchange, 200, PAGE));
+        cache = new SnapshotCache("token", "session-1", server.client(RetryConfig.noRetry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.close();
+    }
+
+    @Test
+    void concurrentMissesShareOneRequest() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<DocumentSnapshot>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.getDocumentSnapshotCached(null)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            DocumentSnapshot first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<DocumentSnapshot> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, server.hits("/pdf/document/snapshot"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void boundedCacheHitsDoNotWaitForTheCacheLock() throws Exception {
+        cache.configure(SnapshotCacheConfig.builder().maxEntries(2).build());
+        PageSnapshot page = cache.getPageSnapshotCached(1, null);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<PageSnapshot>> results = new ArrayList<>();
+            // Loads and evictions hold this lock; hits must get by without it.
+            synchronized (cache) {
+                for (int i = 0; i < 4; i++) {
+                    results.add(executor.submit(() -> {
+                        PageSnapshot last = null;
+                        for (int n = 0; n < 1000; n++) {
+                            last = cache.getPageSnapshotCached(1, null);
+                        }
+                        return last;
+                    }));
+                }
+                for (Future<PageSnapshot> result : results) {
+                    assertSame(page, result.get(5, TimeUnit.SECONDS));
+                }
+            }
+            assertEquals(4000, cache.stats().getHitCount());
+            assertEquals(1, cache.stats().getEntryCount());
+            assertEquals(1, server.hits("/pdf/page/1/snapshot"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void loadOverlappingAnInvalidationIsNotCached() throws Exception {
+        var loading = cache.getDocumentSnapshotAsync(null);
+        cache.invalidate();
+        release.countDown();
+
+        DocumentSnapshot stale = loading.get(5, TimeUnit.SECONDS);
+        DocumentSnapshot fresh = cache.getDocumentSnapshotCached(null);
+
+        assertNotSame(stale, fresh);
+        assertEquals(2, server.hits("/pdf/document/snapshot"));
+    }
+
+    @Test
+    void documentLoadPublishesItsPages() {
+        release.countDown();
+        DocumentSnapshot document = cache.getDocumentSnapshotCached(null);
+
+        PageSnapshot page = cache.getPageSnapshotCached(1, null);
+
+        assertSame(document.pages().get(0), page);
+        assertEquals(0, server.hits("/pdf/page/1/snapshot"));
+    }
+
+    @Test
+    void failedPublishCompletesTheLoadAndIsNotCached() throws Exception {
+        try (LocalApiServer broken = new LocalApiServer().on("/pdf/document/snapshot",
+                exchange -> LocalApiServer.respond(exchange, 200, "{\"pageCount\":1,\"fonts\":[]}"))) {
+            SnapshotCache brokenCache = new SnapshotCache("token", "session-1", broken.client(RetryConfig.noRetry()));
+
+            for (int attempt = 0; attempt < 2; attempt++) {
+                var loading = brokenCache.getDocumentSnapshotAsync(null);
+                assertThrows(ExecutionException.class, () -> loading.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(2, broken.hits("/pdf/document/snapshot"));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.common.response.PageSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnapshotCacheEvictionTest {
+
+    private LocalApiServer server;
+    private PDFDancer pdf;
+
+    @BeforeEach
+    void setUp() {
+        server = new LocalApiServer()
+                .on("/session/create", exchange -> LocalApiServer.respond(exchange, 200, "session-1"));
+        for (int page = 1; page <= 3; page++) {
+            String json = SnapshotJson.page(page);
+            server.on("/pdf/page/" + page + "/snapshot", exchange -> LocalApiServer.respond(exchange, 200, json));
+        }
+        pdf = PDFDancer.createSession("token", new byte[]{1}, server.client(RetryConfig.noRetry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void leastRecentlyUsedPageIsEvictedWhenEntryLimitIsReached() {
+        pdf.configureSnapshotCache(SnapshotCacheConfig.builder().maxEntries(2).build());
+
+        PageSnapshot first = pdf.getPageSnapshot(1);
+        pdf.getPageSnapshot(2);
+        assertSame(first, pdf.getPageSnapshot(1));
+        pdf.getPageSnapshot(3);
+
+        assertSame(first, pdf.getPageSnapshot(1));
+        pdf.getPageSnapshot(2);
+
+        assertEquals(1, server.hits("/pdf/page/1/snapshot"));
+        assertEquals(2, server.hits("/pdf/page/2/snapshot"));
+        SnapshotCacheStats stats = pdf.getSnapshotCacheStats();
+        assertEquals(2, stats.getEntryCount());
+        assertEquals(2, stats.getEvictionCount());
+        assertEquals(2, stats.getHitCount());
+        assertEquals(4, stats.getMissCount());
+    }
+
+    @Test
+    void weightBudgetBoundsEstimatedSize() {
+        PageSnapshot first = pdf.getPageSnapshot(1);
+        long pageWeight = pdf.getSnapshotCacheStats().getEstimatedWeightBytes();
+        assertTrue(pageWeight > 0);
+
+        pdf.configureSnapshotCache(SnapshotCacheConfig.builder().maxWeightBytes(pageWeight).build());
+        pdf.getPageSnapshot(2);
+
+        assertEquals(1, pdf.getSnapshotCacheStats().getEntryCount());
+        assertEquals(pageWeight, pdf.getSnapshotCacheStats().getEstimatedWeightBytes());
+        assertNotSame(first, pdf.getPageSnapshot(1));
+    }
+
+    @Test
+    void unboundedByDefault() {
+        for (int page = 1; page <= 3; page++) {
+            pdf.getPageSnapshot(page);
+        }
+
+        assertEquals(3, pdf.getSnapshotCacheStats().getEntryCount());
+        assertEquals(0, pdf.getSnapshotCacheStats().getEvictionCount());
+    }
+
+    @Test
+    void rejectsEmptyBudget() {
+        assertThrows(IllegalArgumentException.class, () -> SnapshotCacheConfig.builder().maxEntries(0));
+        assertThrows(IllegalArgumentException.class, () -> SnapshotCacheConfig.builder().maxWeightBytes(0));
+    }
+}
@@ -0,0 +1,86 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.model.Position;
+import com.pdfdancer.common.response.DocumentSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SnapshotInvalidationTest {
+
+    private final double[] imageX = {10};
+    private LocalApiServer server;
+    private PDFDancer pdf;
+
+    @BeforeEach
+    void setUp() {
+        server = new LocalApiServer()
+                .on("/session/create", exchange -> LocalApiServer.respond(exchange, 200, "session-1"))
+                .on("/pdf/document/snapshot", exchange -> LocalApiServer.respond(exchange, 200, documentJson()))
+                .on("/pdf/page/1/snapshot", exchange -> LocalApiServer.respond(exchange, 200, pageJson(1)))
+                .on("/pdf/page/2/snapshot", exchange -> LocalApiServer.respond(exchange, 200, pageJson(2)))
+                .on("/pdf/page/3/snapshot", exchange -> LocalApiServer.respond(exchange, 200, pageJson(3)))
+                .on("/pdf/move", exchange -> {
+                    imageX[0] = 50;
+                    LocalApiServer.respond(exchange, 200, "true");
+                })
+                .on("/pdf/page/move", exchange -> LocalApiServer.respond(exchange, 200, "true"));
+        pdf = PDFDancer.createSession("token", new byte[]{1}, server.client(RetryConfig.noRetry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void elementMutationRefetchesOnlyTheAffectedPage() {
+        DocumentSnapshot before = pdf.getDocumentSnapshot();
+        ObjectRef image = before.pages().get(1).elements().get(0);
+
+        pdf.move(image, new Position(50, 20));
+        DocumentSnapshot after = pdf.getDocumentSnapshot();
+
+        assertEquals(1, server.hits("/pdf/document/snapshot"));
+        assertEquals(1, server.hits("/pdf/page/2/snapshot"));
+        assertEquals(50.0, after.pages().get(1).elements().get(0).getPosition().getBoundingRect().getX());
+        assertSame(before.pages().get(0), after.pages().get(0));
+        assertSame(after.pages().get(2), pdf.getPageSnapshot(3));
+        assertEquals(0, server.hits("/pdf/page/3/snapshot"));
+    }
+
+    @Test
+    void patchedDocumentIsServedFromCacheAfterwards() {
+        ObjectRef image = pdf.getDocumentSnapshot().pages().get(1).elements().get(0);
+        pdf.move(image, new Position(50, 20));
+
+        DocumentSnapshot patched = pdf.getDocumentSnapshot();
+
+        assertSame(patched, pdf.getDocumentSnapshot());
+        assertSame(patched.pages().get(1), pdf.getPageSnapshot(2));
+        assertEquals(1, server.hits("/pdf/page/2/snapshot"));
+    }
+
+    @Test
+    void structuralPageOperationInvalidatesEverything() {
+        pdf.getDocumentSnapshot();
+
+        pdf.movePage(1, 3);
+        pdf.getDocumentSnapshot();
+
+        assertEquals(2, server.hits("/pdf/document/snapshot"));
+    }
+
+    private String documentJson() {
+        return SnapshotJson.document(pageJson(1), pageJson(2), pageJson(3));
+    }
+
+    private String pageJson(int page) {
+        double x = page == 2 ? imageX[0] : 10;
+        return SnapshotJson.page(page, SnapshotJson.element("image-" + page, "IMAGE", page, x, 20, 5, 5));
+    }
+}
@@ -0,0 +1,110 @@
+package com.pdfdancer.client.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Wire-format snapshot responses for {@link LocalApiServer} handlers, so that all tests share one definition
+ * of the page, element and document shape the API returns. Pages are identified as {@code page-<n>}.
+ */
+final class SnapshotJson {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private SnapshotJson() {
+    }
+
+    static String document(String... pages) {
+        return document(List.of(pages));
+    }
+
+    static String document(List<String> pages) {
+        ObjectNode document = MAPPER.createObjectNode();
+        document.put("pageCount", pages.size());
+        document.putArray("fonts");
+        ArrayNode list = document.putArray("pages");
+        pages.forEach(page -> list.add(tree(page)));
+        return document.toString();
+    }
+
+    /**
+     * @param elements elements as built by {@link #element} or {@link #formField}, or raw JSON objects
+     */
+    static String page(int pageNumber, String... elements) {
+        ObjectNode page = MAPPER.createObjectNode();
+        page.set("pageRef", pageRefNode(pageNumber));
+        page.set("elements", tree(elements(elements)));
+        page.putArray("fonts");
+        return page.toString();
+    }
+
+    static String pageRef(int pageNumber) {
+        return pageRefNode(pageNumber).toString();
+    }
+
+    static String elements(String... elements) {
+        ArrayNode list = MAPPER.createArrayNode();
+        for (String element : elements) {
+            list.add(tree(element));
+        }
+        return list.toString();
+    }
+
+    static String element(String id, String type, int pageNumber) {
+        return element(id, type, type, pageNumber);
+    }
+
+    static String element(String id, String type, String objectRefType, int pageNumber) {
+        return elementNode(id, type, objectRefType, pageNumber).toString();
+    }
+
+    static String element(String id, String type, int pageNumber,
+                          double x, double y, double width, double height) {
+        ObjectNode element = elementNode(id, type, type, pageNumber);
+        ObjectNode rect = ((ObjectNode) element.get("position")).putObject("boundingRect");
+        rect.put("x", x);
+        rect.put("y", y);
+        rect.put("width", width);
+        rect.put("height", height);
+        return element.toString();
+    }
+
+    /**
+     * @param value the field value, or {@code null} to leave it out
+     */
+    static String formField(String id, String type, String name, String value, int pageNumber) {
+        ObjectNode field = elementNode(id, type, type, pageNumber);
+        field.put("name", name);
+        if (value != null) {
+            field.put("value", value);
+        }
+        return field.toString();
+    }
+
+    private static ObjectNode pageRefNode(int pageNumber) {
+        return elementNode("page-" + pageNumber, "PAGE", "PAGE", pageNumber);
+    }
+
+    private static ObjectNode elementNode(String id, String type, String objectRefType, int pageNumber) {
+        ObjectNode element = MAPPER.createObjectNode();
+        element.put("internalId", id);
+        element.put("type", type);
+        element.put("objectRefType", objectRefType);
+        element.putObject("position").put("pageNumber", pageNumber);
+        return element;
+    }
+
+    private static JsonNode tree(String json) {
+        try {
+            return MAPPER.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.common.model.FormFieldRef;
+import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.model.ObjectType;
+import com.pdfdancer.common.response.DocumentSnapshot;
+import com.pdfdancer.common.response.PageSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SnapshotProjectionTest {
+
+    private static final String IMAGE = SnapshotJson.element("image-1", "IMAGE", 1);
+    private static final String CHECKBOX = SnapshotJson.element("box-1", "CHECKBOX", 1);
+    private static final String GENERIC_FIELD = SnapshotJson.element("field-2", "FORM_FIELD", 2);
+    private static final String PAGE_1 = SnapshotJson.page(1, IMAGE, CHECKBOX);
+    private static final String PAGE_2 = SnapshotJson.page(2, GENERIC_FIELD);
+
+    private LocalApiServer server;
+    private PDFDancer pdf;
+
+    @BeforeEach
+    void setUp() {
+        server = new LocalApiServer()
+                .on("/session/create", exchange -> LocalApiServer.respond(exchange, 200, "session-1"))
+                .on("/pdf/document/snapshot", exchange -> LocalApiServer.respond(exchange, 200,
+                        SnapshotJson.document(PAGE_1, PAGE_2)))
+                .on("/pdf/page/1/snapshot", exchange -> LocalApiServer.respond(exchange, 200, PAGE_1))
+                .on("/pdf/page/2/snapshot", exchange -> LocalApiServer.respond(exchange, 200, PAGE_2));
+        pdf = PDFDancer.createSession("token", new byte[]{1}, server.client(RetryConfig.noRetry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void typedPageRequestIsFilteredFromCachedFullDocument() {
+        DocumentSnapshot full = pdf.getDocumentSnapshot();
+
+        TypedPageSnapshot<FormFieldRef> boxes = pdf.getTypedPageSnapshot(1, FormFieldRef.class, "CHECKBOX");
+
+        assertEquals(1, boxes.getElements().size());
+        assertSame(full.pages().get(0).elements().get(1), boxes.getElements().get(0));
+        assertEquals(0, server.hits("/pdf/page/1/snapshot"));
+        assertEquals(1, server.hits("/pdf/document/snapshot"));
+    }
+
+    @Test
+    void typeFilteredSnapshotsAreFilteredFromCachedFullPage() {
+        pdf.getPageSnapshot(1);
+
+        PageSnapshot images = pdf.getPageSnapshot(1, "image");
+
+        assertEquals(1, images.elements().size());
+        assertEquals(ObjectType.IMAGE, images.elements().get(0).getType());
+        assertEquals(1, server.hits("/pdf/page/1/snapshot"));
+    }
+
+    @Test
+    void typedDocumentRequestIsNotProjectedSinceItsFontsComeFromTheServer() {
+        pdf.getDocumentSnapshot();
+
+        TypedDocumentSnapshot<ObjectRef> images = pdf.getTypedDocumentSnapshot(ObjectRef.class, "IMAGE");
+
+        assertEquals(2, images.getPages().size());
+        assertEquals(2, server.hits("/pdf/document/snapshot"));
+    }
+
+    @Test
+    void genericFormFieldsAreResolvedByTheServer() {
+        pdf.getDocumentSnapshot();
+
+        pdf.getTypedPageSnapshot(2, FormFieldRef.class, "CHECKBOX");
+        pdf.getTypedDocumentSnapshot(FormFieldRef.class, "CHECKBOX");
+
+        assertEquals(1, server.hits("/pdf/page/2/snapshot"));
+        assertEquals(2, server.hits("/pdf/document/snapshot"));
+    }
+
+    @Test
+    void withoutCachedSupersetTheServerIsAsked() {
+        pdf.getPageSnapshot(1, "IMAGE");
+
+        assertEquals(1, server.hits("/pdf/page/1/snapshot"));
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.client.rest.selection.SelectionService;
+import com.pdfdancer.common.model.BoundingRect;
+import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.model.ObjectType;
+import com.pdfdancer.common.model.Position;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpatialIndexTest {
+
+    private final SelectionService selection = new SelectionService();
+    private LocalApiServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    void pointQueriesMatchLinearScan() {
+        Random random = new Random(7);
+        List<ObjectRef> elements = randomElements(random, 2_000);
+        SpatialIndex<ObjectRef> index = SpatialIndex.build(elements);
+
+        for (int i = 0; i < 500; i++) {
+            double x = random.nextDouble() * 612;
+            double y = random.nextDouble() * 792;
+            double epsilon = i % 2 == 0 ? 0 : 2.5;
+            List<ObjectRef> expected = elements.stream()
+                    .filter(ref -> selection.containsPoint(ref, x, y, epsilon))
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.containing(x, y, epsilon));
+        }
+    }
+
+    @Test
+    void regionQueriesMatchLinearScan() {
+        Random random = new Random(11);
+        List<ObjectRef> elements = randomElements(random, 1_000);
+        SpatialIndex<ObjectRef> index = SpatialIndex.build(elements);
+
+        for (int i = 0; i < 200; i++) {
+            BoundingRect region = new BoundingRect(random.nextDouble() * 500, random.nextDouble() * 700,
+                    random.nextDouble() * 150, random.nextDouble() * 150);
+            for (Position.PositionMode mode : Position.PositionMode.values()) {
+                List<ObjectRef> expected = elements.stream()
+                        .filter(ref -> matches(ref, region, mode))
+                        .collect(Collectors.toList());
+                assertEquals(expected, index.within(region, mode));
+            }
+        }
+    }
+
+    @Test
+    void elementsWithoutBoundsAreSkipped() {
+        List<ObjectRef> elements = new ArrayList<>();
+        elements.add(ObjectRef.create("page-level", Position.atPage(1), ObjectType.IMAGE, ObjectType.IMAGE));
+        elements.add(null);
+        elements.add(element("boxed", 10, 10, 5, 5));
+        SpatialIndex<ObjectRef> index = SpatialIndex.build(elements);
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(elements.get(2)), index.containing(12, 12, 0));
+        assertTrue(SpatialIndex.build(List.of()).containing(0, 0, 1).isEmpty());
+    }
+
+    @Test
+    void pageIndexIsReusedUntilThePageIsInvalidated() {
+        double[] imageX = {10};
+        server = new LocalApiServer()
+                .on("/session/create", exchange -> LocalApiServer.respond(exchange, 200, "session-1"))
+                .on("/pdf/page/1/snapshot", exchange -> LocalApiServer.respond(exchange, 200,
+                        SnapshotJson.page(1, SnapshotJson.element("image-1", "IMAGE", 1, imageX[0], 20, 5, 5))))
+                .on("/pdf/move", exchange -> {
+                    imageX[0] = 50;
+                    LocalApiServer.respond(exchange, 200, "true");
+                });
+        PDFDancer pdf = PDFDancer.createSession("token", new byte[]{1}, server.client(RetryConfig.noRetry()));
+
+        SpatialIndex<ObjectRef> index = pdf.pageElementIndex(1);
+        assertEquals(1, pdf.page(1).selectImagesAt(12, 22).size());
+        assertSame(index, pdf.pageElementIndex(1));
+
+        ObjectRef image = pdf.getPageSnapshot(1).elements().get(0);
+        pdf.move(image, Position.atPageCoordinates(1, 50, 20));
+
+        assertTrue(pdf.page(1).selectImagesAt(12, 22).isEmpty());
+        assertEquals(1, pdf.page(1).selectImagesAt(52, 22).size());
+        assertEquals(2, server.hits("/pdf/page/1/snapshot"));
+    }
+
+    @Test
+    void pageRegionQueriesAreAnsweredFromTheCachedSnapshot() {
+        server = new LocalApiServer()
+                .on("/session/create", exchange -> LocalApiServer.respond(exchange, 200, "session-1"))
+                .on("/pdf/page/1/snapshot", exchange -> LocalApiServer.respond(exchange, 200,
+                        SnapshotJson.page(1,
+                                SnapshotJson.element("image-1", "IMAGE", 1, 10, 10, 20, 20),
+                                SnapshotJson.element("path-1", "PATH", 1, 25, 25, 40, 40),
+                                SnapshotJson.element("image-2", "IMAGE", 1, 200, 200, 10, 10))));
+        PDFDancer pdf = PDFDancer.createSession("token", new byte[]{1}, server.client(RetryConfig.noRetry()));
+        BoundingRect region = new BoundingRect(0, 0, 50, 50);
+
+        List<String> intersecting = pdf.page(1).selectElementsIn(region, Position.PositionMode.INTERSECT).stream()
+                .map(ObjectRef::getInternalId)
+                .collect(Collectors.toList());
+        List<String> contained = pdf.page(1).selectElementsIn(region, Position.PositionMode.CONTAINS).stream()
+                .map(ObjectRef::getInternalId)
+                .collect(Collectors.toList());
+
+        assertEquals(List.of("image-1", "path-1"), intersecting);
+        assertEquals(List.of("image-1"), contained);
+        assertEquals(1, pdf.page(1).selectImagesIn(region, Position.PositionMode.INTERSECT).size());
+        assertEquals(1, pdf.page(1).selectPathsIn(region, Position.PositionMode.INTERSECT).size());
+        assertTrue(pdf.page(1).selectPathsIn(region, Position.PositionMode.CONTAINS).isEmpty());
+        assertEquals(1, server.hits("/pdf/page/1/snapshot"));
+    }
+
+
+    private static boolean matches(ObjectRef ref, BoundingRect region, Position.PositionMode mode) {
+        if (ref == null || ref.getPosition() == null || ref.getPosition().getBoundingRect() == null) {
+            return false;
+        }
+        BoundingRect rect = ref.getPosition().getBoundingRect();
+        double right = rect.getX() + rect.getWidth();
+        double top = rect.getY() + rect.getHeight();
+        double regionRight = region.getX() + region.getWidth();
+        double regionTop = region.getY() + region.getHeight();
+        if (mode == Position.PositionMode.CONTAINS) {
+            return rect.getX() >= region.getX() && right <= regionRight && rect.getY() >= region.getY() && top <= regionTop;
+        }
+        return rect.getX() <= regionRight && right >= region.getX() && rect.getY() <= regionTop && top >= region.getY();
+    }
+
+    private static List<ObjectRef> randomElements(Random random, int count) {
+        List<ObjectRef> elements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i % 50 == 0) {
+                elements.add(ObjectRef.create("unplaced-" + i, Position.atPage(1), ObjectType.PATH, ObjectType.PATH));
+                continue;
+            }
+            double width = i % 10 == 0 ? 0 : random.nextDouble() * 40;
+            double height = i % 10 == 0 ? 0 : random.nextDouble() * 40;
+            elements.add(element("el-" + i, random.nextDouble() * 612, random.nextDouble() * 792, width, height));
+        }
+        return elements;
+    }
+
+    private static ObjectRef element(String id, double x, double y, double width, double height) {
+        Position position = new Position(1, new BoundingRect(x, y, width, height), Position.PositionMode.CONTAINS);
+        return ObjectRef.create(id, position, ObjectType.PATH, ObjectType.PATH);
+    }
+}
@@ -0,0 +1,123 @@
+package com.pdfdancer.client.rest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamingDownloadTest {
+
+    private static final byte[] PDF = randomBytes(3 * 1024 * 1024 + 17);
+
+    private LocalApiServer server;
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new LocalApiServer()
+                .on("/session/create", exchange -> LocalApiServer.respond(exchange, 200, "session-1"));
+        tempDir = Files.createTempDirectory("pdfdancer-download");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void saveStreamsDocumentIntoNewDirectories() throws IOException {
+        server.on("/session/session-1/pdf", exchange -> LocalApiServer.respond(exchange, 200, PDF));
+        PDFDancer pdf = session(RetryConfig.noRetry());
+        Path target = tempDir.resolve("nested/out.pdf");
+
+        long written = pdf.save(target);
+
+        assertEquals(PDF.length, written);
+        assertArrayEquals(PDF, Files.readAllBytes(target));
+    }
+
+    @Test
+    void failedSaveKeepsTheExistingFile() throws IOException {
+        server.on("/session/session-1/pdf", exchange -> {
+            exchange.sendResponseHeaders(200, PDF.length);
+            exchange.getResponseBody().write(PDF, 0, PDF.length / 2);
+        });
+        PDFDancer pdf = session(RetryConfig.noRetry());
+        Path target = tempDir.resolve("existing.pdf");
+        Files.write(target, new byte[]{7, 7, 7});
+
+        assertThrows(RuntimeException.class, () -> pdf.save(target));
+
+        assertArrayEquals(new byte[]{7, 7, 7}, Files.readAllBytes(target));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void writeToAndOpenStreamReturnTheSameBytes() throws IOException {
+        server.on("/session/session-1/pdf", exchange -> LocalApiServer.respond(exchange, 200, PDF));
+        PDFDancer pdf = session(RetryConfig.noRetry());
+
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        assertEquals(PDF.length, pdf.writeTo(sink));
+        assertArrayEquals(PDF, sink.toByteArray());
+
+        try (InputStream in = pdf.openStream()) {
+            assertArrayEquals(PDF, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void streamingDownloadRetriesRetryableStatus() throws IOException {
+        int[] calls = {0};
+        server.on("/session/session-1/pdf", exchange -> {
+            if (calls[0]++ == 0) {
+                LocalApiServer.respond(exchange, 503, "{\"message\":\"busy\"}");
+            } else {
+                LocalApiServer.respond(exchange, 200, PDF);
+            }
+        });
+        PDFDancer pdf = session(RetryConfig.builder()
+                .maxAttempts(2).initialDelay(Duration.ZERO).maxDelay(Duration.ZERO).build());
+
+        assertEquals(PDF.length, pdf.save(tempDir.resolve("retried.pdf")));
+        assertEquals(2, server.hits("/session/session-1/pdf"));
+    }
+
+    @Test
+    void streamingDownloadTranslatesErrorBodies() {
+        server.on("/session/session-1/pdf", exchange -> LocalApiServer.respond(exchange, 404,
+                "{\"error\":\"SessionNotFoundException\",\"message\":\"gone\"}"));
+        PDFDancer pdf = session(RetryConfig.noRetry());
+
+        SessionNotFoundException error = assertThrows(SessionNotFoundException.class, pdf::openStream);
+        assertEquals("gone", error.getMessage());
+    }
+
+    private PDFDancer session(RetryConfig retryConfig) {
+        return PDFDancer.createSession("token", new byte[]{1}, server.client(retryConfig));
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,123 @@
+package com.pdfdancer.client.rest;
+
+import com.pdfdancer.client.http.HttpRequest;
+import com.pdfdancer.client.http.MediaType;
+import com.pdfdancer.client.http.MultipartBody;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingUploadTest {
+
+    private static final byte[] PDF = randomBytes(2 * 1024 * 1024 + 5);
+
+    private final List<byte[]> uploads = new ArrayList<>();
+    private LocalApiServer server;
+    private Path pdfFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new LocalApiServer();
+        pdfFile = Files.createTempFile("pdfdancer-upload", ".pdf");
+        Files.write(pdfFile, PDF);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+        Files.deleteIfExists(pdfFile);
+    }
+
+    @Test
+    void createSessionFromPathStreamsFileIntoMultipartBody() {
+        server.on("/session/create", exchange -> {
+            uploads.add(exchange.getRequestBody().readAllBytes());
+            LocalApiServer.respond(exchange, 200, "session-1");
+        });
+
+        PDFDancer pdf = PDFDancer.createSession("token", pdfFile, server.client(RetryConfig.noRetry()));
+
+        assertSession(pdf, "session-1");
+        assertArrayEquals(PDF, filePartContent(uploads.get(0)));
+    }
+
+    @Test
+    void missingFileFailsBeforeAnyTokenIsRequested() {
+        Path missing = pdfFile.resolveSibling("missing-" + pdfFile.getFileName());
+
+        PdfDancerClientException error = assertThrows(PdfDancerClientException.class,
+                () -> PDFDancer.createSession(missing));
+        assertTrue(error.getMessage().contains(missing.toString()));
+    }
+
+    @Test
+    void filePartIsReadAgainWhenUploadIsRetried() {
+        server.on("/session/create", exchange -> {
+            uploads.add(exchange.getRequestBody().readAllBytes());
+            if (uploads.size() == 1) {
+                LocalApiServer.respond(exchange, 503, "{\"message\":\"busy\"}");
+            } else {
+                LocalApiServer.respond(exchange, 200, "session-2");
+            }
+        });
+
+        PDFDancer pdf = PDFDancer.createSession("token", pdfFile, server.client(RetryConfig.builder()
+                .maxAttempts(2).initialDelay(Duration.ZERO).maxDelay(Duration.ZERO).build()));
+
+        assertSession(pdf, "session-2");
+        assertEquals(2, uploads.size());
+        assertArrayEquals(PDF, filePartContent(uploads.get(1)));
+    }
+
+    @Test
+    void streamPartsAreSentAlongsideInMemoryParts() {
+        server.on("/upload", exchange -> {
+            uploads.add(exchange.getRequestBody().readAllBytes());
+            LocalApiServer.respond(exchange, 200, "ok");
+        });
+        MultipartBody body = MultipartBody.builder()
+                .addPart("label", "hello")
+                .addPart("pdf", "doc.pdf", MediaType.APPLICATION_PDF_TYPE, () -> new ByteArrayInputStream(PDF))
+                .build();
+
+        server.client(RetryConfig.noRetry()).toBlocking().retrieve(
+                HttpRequest.POST("/upload", body).contentType(MediaType.MULTIPART_FORM_DATA_TYPE), String.class);
+
+        String raw = new String(uploads.get(0), StandardCharsets.ISO_8859_1);
+        assertTrue(raw.contains("name=\"label\"\r\nContent-Type: text/plain\r\n\r\nhello\r\n"));
+        assertArrayEquals(PDF, filePartContent(uploads.get(0)));
+    }
+
+    private void assertSession(PDFDancer pdf, String sessionId) {
+        server.on("/session/" + sessionId + "/pdf", exchange -> LocalApiServer.respond(exchange, 200, sessionId));
+        assertEquals(sessionId, new String(pdf.getFileBytes(), StandardCharsets.UTF_8));
+    }
+
+    private static byte[] filePartContent(byte[] multipart) {
+        String raw = new String(multipart, StandardCharsets.ISO_8859_1);
+        int headerEnd = raw.indexOf("\r\n\r\n", raw.indexOf("filename=")) + 4;
+        int partEnd = raw.lastIndexOf("\r\n--");
+        return raw.substring(headerEnd, partEnd).getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(7).nextBytes(bytes);
+        return bytes;
+    }
+}
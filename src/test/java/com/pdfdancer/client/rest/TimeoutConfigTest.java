@@ -0,0 +1,63 @@
+package com.pdfdancer.client.rest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TimeoutConfig}.
+ */
+class TimeoutConfigTest {
+
+    @Test
+    void testDefaultConfig() {
+        TimeoutConfig config = TimeoutConfig.defaultConfig();
+
+        assertEquals(TimeoutConfig.DEFAULT_REQUEST_TIMEOUT, config.getRequestTimeout());
+        assertEquals(Duration.ZERO, config.getPerMegabyte());
+        assertNull(config.getOperationDeadline());
+        assertEquals(TimeoutConfig.DEFAULT_REQUEST_TIMEOUT, config.timeoutFor("GET", "/session/abc/pdf", -1));
+    }
+
+    @Test
+    void testFirstMatchingEndpointWins() {
+        TimeoutConfig config = TimeoutConfig.builder()
+                .requestTimeout(Duration.ofSeconds(2))
+                .endpoint("GET", "/session/{id}/pdf", Duration.ofMinutes(10))
+                .endpoint("/session/*/pdf", Duration.ofMinutes(1))
+                .endpoint("/pdf/page/*/snapshot", Duration.ofSeconds(20))
+                .build();
+
+        assertEquals(Duration.ofMinutes(10), config.timeoutFor("GET", "/session/abc/pdf", -1));
+        assertEquals(Duration.ofMinutes(1), config.timeoutFor("POST", "/session/abc/pdf", -1));
+        assertEquals(Duration.ofSeconds(20), config.timeoutFor("GET",
+                PdfDancerHttpClient.unversionedPath("/v2/pdf/page/3/snapshot?types=IMAGE"), -1));
+        assertEquals(Duration.ofSeconds(2), config.timeoutFor("GET", "/pdf/page/3", -1));
+        assertEquals(Duration.ofSeconds(2), config.timeoutFor("PUT", "/pdf/move", -1));
+    }
+
+    @Test
+    void testPerMegabyteScalesKnownBodyLengths() {
+        TimeoutConfig config = TimeoutConfig.builder()
+                .requestTimeout(Duration.ofSeconds(10))
+                .perMegabyte(Duration.ofSeconds(3))
+                .build();
+
+        assertEquals(Duration.ofSeconds(10), config.timeoutFor("POST", "/session/create", -1));
+        assertEquals(Duration.ofSeconds(10), config.timeoutFor("POST", "/session/create", 0));
+        assertEquals(Duration.ofSeconds(13), config.timeoutFor("POST", "/session/create", 1));
+        assertEquals(Duration.ofSeconds(16), config.timeoutFor("POST", "/session/create", 1024 * 1024 + 1));
+    }
+
+    @Test
+    void testInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> TimeoutConfig.builder().requestTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> TimeoutConfig.builder().endpoint("/pdf/move", Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> TimeoutConfig.builder().perMegabyte(Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> TimeoutConfig.builder().operationDeadline(Duration.ZERO));
+        assertNull(TimeoutConfig.builder().operationDeadline(null).build().getOperationDeadline());
+    }
+}
@@ -0,0 +1,121 @@
+package com.pdfdancer.client.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.pdfdancer.client.http.Argument;
+import com.pdfdancer.client.http.HttpRequest;
+import com.pdfdancer.client.http.MediaType;
+import com.pdfdancer.common.model.FormFieldRef;
+import com.pdfdancer.common.model.ObjectRef;
+import com.pdfdancer.common.model.ObjectType;
+import com.pdfdancer.common.response.DocumentSnapshot;
+import com.pdfdancer.common.response.PageSnapshot;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WireFormatNegotiationTest {
+
+    private static final String ELEMENTS = SnapshotJson.elements(
+            SnapshotJson.element("IMAGE_000001", "IMAGE", 1),
+            SnapshotJson.formField("FORM_FIELD_000001", "TEXT_FIELD", "email", "a@b.c", 1));
+    private static final String PAGE = SnapshotJson.page(1,
+            SnapshotJson.element("IMAGE_000001", "IMAGE", 1),
+            SnapshotJson.formField("FORM_FIELD_000001", "TEXT_FIELD", "email", "a@b.c", 1));
+    private static final String DOCUMENT = SnapshotJson.document(PAGE);
+    private static final String SMILE_ACCEPT = "application/x-jackson-smile, application/json;q=0.9";
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final ObjectMapper SMILE = new ObjectMapper(new SmileFactory());
+
+    private final LocalApiServer server = new LocalApiServer();
+    private volatile String accept;
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void snapshotsAreDecodedFromSmile() {
+        server.on("/pdf/document/snapshot", exchange -> respondNegotiated(exchange, DOCUMENT));
+        SnapshotCache cache = new SnapshotCache("token", "session-1", server.client(RetryConfig.noRetry()));
+
+        DocumentSnapshot document = cache.getDocumentSnapshotCached(null);
+
+        assertEquals(SMILE_ACCEPT, accept);
+        assertEquals(2, document.pages().get(0).elements().size());
+        assertEquals(ObjectType.IMAGE, document.pages().get(0).elements().get(0).getType());
+    }
+
+    @Test
+    void fallsBackToJsonWhenServerDoesNotOfferSmile() {
+        server.on("/pdf/page/1/snapshot", exchange -> {
+            accept = exchange.getRequestHeaders().getFirst("Accept");
+            exchange.getResponseHeaders().set("Content-Type", MediaType.APPLICATION_JSON_TYPE.value());
+            LocalApiServer.respond(exchange, 200, PAGE);
+        });
+        SnapshotCache cache = new SnapshotCache("token", "session-1", server.client(RetryConfig.noRetry()));
+
+        PageSnapshot page = cache.getPageSnapshotCached(1, null);
+
+        assertEquals(SMILE_ACCEPT, accept);
+        assertEquals(2, page.elements().size());
+    }
+
+    @Test
+    void findResultsAreDecodedFromSmile() {
+        server.on("/pdf/find", exchange -> respondNegotiated(exchange, ELEMENTS));
+
+        List<ObjectRef> refs = server.client(RetryConfig.noRetry()).toBlocking().retrieve(
+                HttpRequest.POST("/pdf/find", null)
+                        .accept(MediaType.APPLICATION_SMILE_TYPE, MediaType.APPLICATION_JSON_TYPE),
+                Argument.listOf(ObjectRef.class));
+
+        assertEquals(2, refs.size());
+        assertInstanceOf(FormFieldRef.class, refs.get(1));
+    }
+
+    @Test
+    void smileErrorBodiesAreTranslated() {
+        server.on("/pdf/page/1/snapshot", exchange -> {
+            byte[] body = SMILE.writeValueAsBytes(JSON.readTree(
+                    "{\"error\":\"SessionNotFoundException\",\"message\":\"Session expired\"}"));
+            exchange.getResponseHeaders().set("Content-Type", MediaType.APPLICATION_SMILE_TYPE.value());
+            LocalApiServer.respond(exchange, 404, body);
+        });
+        SnapshotCache cache = new SnapshotCache("token", "session-1", server.client(RetryConfig.noRetry()));
+
+        assertThrows(SessionNotFoundException.class, () -> cache.getPageSnapshotCached(1, null));
+    }
+
+    @Test
+    void streamedSnapshotsAskForJson() {
+        server.on("/pdf/document/snapshot", exchange -> respondNegotiated(exchange, DOCUMENT));
+        SnapshotCache cache = new SnapshotCache("token", "session-1", server.client(RetryConfig.noRetry()));
+
+        try (Stream<PageSnapshot> pages = cache.streamDocumentSnapshot(null)) {
+            assertEquals(1, pages.count());
+        }
+        assertEquals(MediaType.APPLICATION_JSON_TYPE.value(), accept);
+    }
+
+    /**
+     * Answers in Smile when the request offers it, otherwise in JSON, like a server with Smile support would.
+     */
+    private void respondNegotiated(HttpExchange exchange, String json) throws IOException {
+        accept = exchange.getRequestHeaders().getFirst("Accept");
+        boolean smile = accept != null && accept.contains(MediaType.APPLICATION_SMILE_TYPE.value());
+        MediaType contentType = smile ? MediaType.APPLICATION_SMILE_TYPE : MediaType.APPLICATION_JSON_TYPE;
+        exchange.getResponseHeaders().set("Content-Type", contentType.value());
+        LocalApiServer.respond(exchange, 200, (smile ? SMILE : JSON).writeValueAsBytes(JSON.readTree(json)));
+    }
+}